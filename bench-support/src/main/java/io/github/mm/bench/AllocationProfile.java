@@ -0,0 +1,83 @@
+package io.github.mm.bench;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+
+/**
+ * Runs a benchmark class, optionally with JMH's {@link GCProfiler}. With {@code --alloc} among the
+ * {@code main} arguments, the bytes allocated per operation ({@code gc.alloc.rate.norm}) are printed for every
+ * benchmark, and the run fails if a {@link ZeroAllocation} benchmark allocated.
+ */
+public final class AllocationProfile {
+    public static final String FLAG = "--alloc";
+
+    private static final String ALLOC_RATE_NORM = "gc.alloc.rate.norm";
+    // JMH's own bookkeeping shows up as a fraction of a byte per op, more on microsecond-long operations.
+    // Real allocations are 16 bytes or more
+    private static final double TOLERANCE_BYTES = 1.0;
+
+    private AllocationProfile() {}
+
+    public static Collection<RunResult> run(Class<?> benchmarkClass, ChainedOptionsBuilder options, String[] args)
+            throws RunnerException {
+        if (!Arrays.asList(args).contains(FLAG)) {
+            return new Runner(options.build()).run();
+        }
+
+        Collection<RunResult> results =
+                new Runner(options.addProfiler(GCProfiler.class).build()).run();
+        verify(benchmarkClass, results);
+        return results;
+    }
+
+    public static void verify(Class<?> benchmarkClass, Collection<RunResult> results) {
+        Set<String> zeroAllocation = Arrays.stream(benchmarkClass.getMethods())
+                .filter(method -> method.isAnnotationPresent(ZeroAllocation.class))
+                .map(Method::getName)
+                .collect(Collectors.toSet());
+
+        List<String> violations = new ArrayList<>();
+        System.out.println();
+        System.out.println("Allocation per operation (" + ALLOC_RATE_NORM + "):");
+        results.stream().sorted(Comparator.comparing(AllocationProfile::label)).forEach(result -> {
+            Result<?> allocation = result.getSecondaryResults().get(ALLOC_RATE_NORM);
+            if (allocation == null) {
+                throw new IllegalStateException("No " + ALLOC_RATE_NORM + " result for " + label(result));
+            }
+            String benchmark = result.getParams().getBenchmark();
+            boolean required = zeroAllocation.contains(benchmark.substring(benchmark.lastIndexOf('.') + 1));
+            System.out.printf(
+                    "  %-70s %12.1f B/op%s%n", label(result), allocation.getScore(), required ? "  (zero-alloc)" : "");
+            if (required && allocation.getScore() > TOLERANCE_BYTES) {
+                violations.add(String.format("%s: %.1f B/op", label(result), allocation.getScore()));
+            }
+        });
+
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException(
+                    "Zero-allocation benchmarks allocated:\n  " + String.join("\n  ", violations));
+        }
+    }
+
+    private static String label(RunResult result) {
+        var params = result.getParams();
+        String benchmark = params.getBenchmark();
+        String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+        String values = params.getParamsKeys().stream()
+                .map(key -> key + "=" + params.getParam(key))
+                .collect(Collectors.joining(", "));
+        return values.isEmpty() ? name : name + " [" + values + "]";
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.mm.bench;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a benchmark that must not allocate. Checked by {@link AllocationProfile} when a benchmark
+ * {@code main} runs with {@code --alloc}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ZeroAllocation {}
@@ -1,5 +1,6 @@
 package io.github.mm.concat.benchmark;
 
+import io.github.mm.bench.AllocationProfile;
 import io.github.mm.concat.impl.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -7,9 +8,7 @@ import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
-import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
-import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
@@ -139,7 +138,7 @@ public class ConcatBenchmark {
     }
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
+        var opt = new OptionsBuilder()
                 .include(ConcatBenchmark.class.getSimpleName())
                 .mode(Mode.AverageTime)
                 .timeUnit(TimeUnit.NANOSECONDS)
@@ -147,10 +146,8 @@ public class ConcatBenchmark {
                 .warmupIterations(3)
                 .warmupTime(TimeValue.seconds(1))
                 .measurementIterations(5)
-                .measurementTime(TimeValue.seconds(1))
-                .build();
+                .measurementTime(TimeValue.seconds(1));
 
-        new Runner(opt).run();
+        AllocationProfile.run(ConcatBenchmark.class, opt, args);
     }
 }
-
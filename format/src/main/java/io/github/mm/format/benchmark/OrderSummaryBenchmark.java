@@ -1,12 +1,11 @@
 package io.github.mm.format.benchmark;
 
+import io.github.mm.bench.AllocationProfile;
 import io.github.mm.format.impl.*;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
-import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
-import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
@@ -69,12 +68,14 @@ public class OrderSummaryBenchmark {
 
     @Benchmark
     public void stringConcatWithDecimalFormat(Blackhole bh) {
-        bh.consume(concatenationWithDecimalFormatImpl.buildOrderSummary("ORD-001", "John Doe", Double.parseDouble(amount)));
+        bh.consume(concatenationWithDecimalFormatImpl.buildOrderSummary(
+                "ORD-001", "John Doe", Double.parseDouble(amount)));
     }
 
     @Benchmark
     public void stringConcatWithNumberFormat(Blackhole bh) {
-        bh.consume(concatenationWithNumberFormatImpl.buildOrderSummary("ORD-001", "John Doe", Double.parseDouble(amount)));
+        bh.consume(
+                concatenationWithNumberFormatImpl.buildOrderSummary("ORD-001", "John Doe", Double.parseDouble(amount)));
     }
 
     @Benchmark
@@ -93,7 +94,7 @@ public class OrderSummaryBenchmark {
     }
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
+        var opt = new OptionsBuilder()
                 .include(OrderSummaryBenchmark.class.getSimpleName())
                 .mode(Mode.AverageTime)
                 .timeUnit(TimeUnit.NANOSECONDS)
@@ -101,10 +102,8 @@ public class OrderSummaryBenchmark {
                 .warmupIterations(3)
                 .warmupTime(TimeValue.seconds(1))
                 .measurementIterations(5)
-                .measurementTime(TimeValue.seconds(1))
-                .build();
+                .measurementTime(TimeValue.seconds(1));
 
-        new Runner(opt).run();
+        AllocationProfile.run(OrderSummaryBenchmark.class, opt, args);
     }
 }
-
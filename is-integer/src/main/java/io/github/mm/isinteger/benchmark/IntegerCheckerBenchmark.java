@@ -1,29 +1,45 @@
 package io.github.mm.isinteger.benchmark;
 
+import io.github.mm.bench.AllocationProfile;
+import io.github.mm.bench.ZeroAllocation;
+import io.github.mm.isinteger.checker.CachingIntegerChecker;
+import io.github.mm.isinteger.checker.CachingIntegerParser;
+import io.github.mm.isinteger.checker.IntegerParser;
 import io.github.mm.isinteger.checker.impl.*;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
-import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Benchmark)
-@Fork(value = 2, warmups = 1)
+@Fork(value = 2, warmups = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
 @Warmup(iterations = 3, time = 1)
 @Measurement(iterations = 5, time = 1)
 public class IntegerCheckerBenchmark {
     private static final Random random = new Random(42);
     private static final int DATASET_SIZE = 10000;
+    private static final char[] MIXED_SCRIPT_ZEROS = {'\u0660', '\u0966', '\uFF10'};
 
     private List<String> validIntegers;
     private List<String> invalidIntegers;
     private List<String> largeValidIntegers;
+    private List<String> longDecimalIntegers;
+    private List<String> hexIntegers;
+    private List<String> mixedScriptIntegers;
+    private String[] validIntegerArray;
+    private boolean[] batchResults;
+    private byte[] packedFields;
+    private int[] packedOffsets;
+    private int[] packedLengths;
+    private long[] packedMask;
     private int index = 0;
 
     private TryCatchIntegerChecker tryCatchChecker;
@@ -36,6 +52,18 @@ public class IntegerCheckerBenchmark {
     private MatchesIntegerChecker matchesChecker;
     private CharAtIntegerChecker charAtChecker;
     private ApacheCommonsIntegerChecker apacheCommonsChecker;
+    private SwarIntegerChecker swarChecker;
+    private VectorIntegerChecker vectorChecker;
+    private ManualParsingRangeIntegerChecker rangeChecker;
+    private RadixIntegerChecker radixChecker;
+    private RadixIntegerChecker radixLongChecker;
+    private RadixIntegerChecker radixHexChecker;
+    private CharacterDigitIntegerChecker characterDigitChecker;
+    private UnicodeDigitIntegerChecker unicodeDigitChecker;
+    private DfaIntegerChecker dfaChecker;
+    private CachingIntegerChecker cachingChecker;
+    private CachingIntegerParser cachingParser;
+    private LengthSwitchIntegerChecker lengthSwitchChecker;
 
     @Setup
     public void setup() {
@@ -49,19 +77,56 @@ public class IntegerCheckerBenchmark {
         matchesChecker = new MatchesIntegerChecker();
         charAtChecker = new CharAtIntegerChecker();
         apacheCommonsChecker = new ApacheCommonsIntegerChecker();
+        swarChecker = new SwarIntegerChecker();
+        vectorChecker = new VectorIntegerChecker();
+        rangeChecker = new ManualParsingRangeIntegerChecker();
+        radixChecker = new RadixIntegerChecker();
+        radixLongChecker = new RadixIntegerChecker(64, 10);
+        radixHexChecker = new RadixIntegerChecker(64, 16);
+        characterDigitChecker = new CharacterDigitIntegerChecker();
+        unicodeDigitChecker = new UnicodeDigitIntegerChecker();
+        dfaChecker = new DfaIntegerChecker();
+        cachingChecker = new CachingIntegerChecker(new ManualParsingIntegerChecker());
+        cachingParser = new CachingIntegerParser(new ManualParsingIntegerChecker());
+        lengthSwitchChecker = new LengthSwitchIntegerChecker();
 
         validIntegers = new ArrayList<>(DATASET_SIZE);
         invalidIntegers = new ArrayList<>(DATASET_SIZE);
         largeValidIntegers = new ArrayList<>(DATASET_SIZE);
+        longDecimalIntegers = new ArrayList<>(DATASET_SIZE);
+        hexIntegers = new ArrayList<>(DATASET_SIZE);
+        mixedScriptIntegers = new ArrayList<>(DATASET_SIZE);
 
         for (int i = 0; i < DATASET_SIZE; i++) {
             validIntegers.add(String.valueOf(random.nextInt(1000000)));
             largeValidIntegers.add(String.valueOf(Integer.MAX_VALUE - random.nextInt(1000)));
-            invalidIntegers.add(generateInvalidInteger());
+            invalidIntegers.add(generateInvalidInteger(random));
+            longDecimalIntegers.add(String.valueOf(random.nextLong()));
+            hexIntegers.add(Long.toString(random.nextLong(), 16));
+            mixedScriptIntegers.add(generateMixedScriptInteger(random));
         }
+
+        validIntegerArray = validIntegers.toArray(String[]::new);
+        batchResults = new boolean[DATASET_SIZE];
+        packFields();
+    }
+
+    private void packFields() {
+        // Alternate valid and invalid fields, as a CSV column with dirty rows would
+        var packed = new StringBuilder();
+        packedOffsets = new int[DATASET_SIZE];
+        packedLengths = new int[DATASET_SIZE];
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            String field = i % 2 == 0 ? validIntegers.get(i) : invalidIntegers.get(i);
+            packedOffsets[i] = packed.length();
+            packedLengths[i] = field.length();
+            packed.append(field);
+        }
+        packedFields = packed.toString().getBytes(StandardCharsets.ISO_8859_1);
+        packedMask = new long[(DATASET_SIZE + 63) / 64];
     }
 
-    private String generateInvalidInteger() {
+    static String generateInvalidInteger(Random random) {
         int type = random.nextInt(8);
         return switch (type) {
             case 0 -> "abc" + random.nextInt(1000);
@@ -75,6 +140,18 @@ public class IntegerCheckerBenchmark {
         };
     }
 
+    private static String generateMixedScriptInteger(Random random) {
+        // Half stay ASCII, the rest get Arabic-Indic, Devanagari or fullwidth digits
+        var text = new StringBuilder(String.valueOf(random.nextInt(1000000)));
+        if (random.nextBoolean()) {
+            char zero = MIXED_SCRIPT_ZEROS[random.nextInt(MIXED_SCRIPT_ZEROS.length)];
+            for (int i = 0; i < text.length(); i++) {
+                text.setCharAt(i, (char) (zero + text.charAt(i) - '0'));
+            }
+        }
+        return text.toString();
+    }
+
     private String getNextValid() {
         return validIntegers.get((index++) % DATASET_SIZE);
     }
@@ -87,7 +164,29 @@ public class IntegerCheckerBenchmark {
         return largeValidIntegers.get((index++) % DATASET_SIZE);
     }
 
+    private String getNextLongDecimal() {
+        return longDecimalIntegers.get((index++) % DATASET_SIZE);
+    }
+
+    private String getNextHex() {
+        return hexIntegers.get((index++) % DATASET_SIZE);
+    }
+
+    private String getNextMixedScript() {
+        return mixedScriptIntegers.get((index++) % DATASET_SIZE);
+    }
+
+    private static boolean parsesAsLong(String text, int radix) {
+        try {
+            Long.parseLong(text, radix);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
     @Benchmark
+    @ZeroAllocation
     public void tryCatch_valid(Blackhole blackhole) {
         blackhole.consume(tryCatchChecker.isInteger(getNextValid()));
     }
@@ -98,6 +197,7 @@ public class IntegerCheckerBenchmark {
     }
 
     @Benchmark
+    @ZeroAllocation
     public void tryCatch_large(Blackhole blackhole) {
         blackhole.consume(tryCatchChecker.isInteger(getNextLarge()));
     }
@@ -118,16 +218,19 @@ public class IntegerCheckerBenchmark {
     }
 
     @Benchmark
+    @ZeroAllocation
     public void manualParsing_valid(Blackhole blackhole) {
         blackhole.consume(manualParsingChecker.isInteger(getNextValid()));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void manualParsing_invalid(Blackhole blackhole) {
         blackhole.consume(manualParsingChecker.isInteger(getNextInvalid()));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void manualParsing_large(Blackhole blackhole) {
         blackhole.consume(manualParsingChecker.isInteger(getNextLarge()));
     }
@@ -163,6 +266,7 @@ public class IntegerCheckerBenchmark {
     }
 
     @Benchmark
+    @ZeroAllocation
     public void optimizedTryCatch_valid(Blackhole blackhole) {
         blackhole.consume(optimizedTryCatchChecker.isInteger(getNextValid()));
     }
@@ -173,6 +277,7 @@ public class IntegerCheckerBenchmark {
     }
 
     @Benchmark
+    @ZeroAllocation
     public void optimizedTryCatch_large(Blackhole blackhole) {
         blackhole.consume(optimizedTryCatchChecker.isInteger(getNextLarge()));
     }
@@ -208,21 +313,25 @@ public class IntegerCheckerBenchmark {
     }
 
     @Benchmark
+    @ZeroAllocation
     public void charAt_valid(Blackhole blackhole) {
         blackhole.consume(charAtChecker.isInteger(getNextValid()));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void charAt_invalid(Blackhole blackhole) {
         blackhole.consume(charAtChecker.isInteger(getNextInvalid()));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void charAt_large(Blackhole blackhole) {
         blackhole.consume(charAtChecker.isInteger(getNextLarge()));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void apacheCommons_valid(Blackhole blackhole) {
         blackhole.consume(apacheCommonsChecker.isInteger(getNextValid()));
     }
@@ -233,14 +342,575 @@ public class IntegerCheckerBenchmark {
     }
 
     @Benchmark
+    @ZeroAllocation
     public void apacheCommons_large(Blackhole blackhole) {
         blackhole.consume(apacheCommonsChecker.isInteger(getNextLarge()));
     }
 
+    @Benchmark
+    @ZeroAllocation
+    public void swar_valid(Blackhole blackhole) {
+        blackhole.consume(swarChecker.isInteger(getNextValid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void swar_invalid(Blackhole blackhole) {
+        blackhole.consume(swarChecker.isInteger(getNextInvalid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void swar_large(Blackhole blackhole) {
+        blackhole.consume(swarChecker.isInteger(getNextLarge()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void vector_valid(Blackhole blackhole) {
+        blackhole.consume(vectorChecker.isInteger(getNextValid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void vector_invalid(Blackhole blackhole) {
+        blackhole.consume(vectorChecker.isInteger(getNextInvalid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void vector_large(Blackhole blackhole) {
+        blackhole.consume(vectorChecker.isInteger(getNextLarge()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void vectorBatch_valid(Blackhole blackhole) {
+        vectorChecker.checkAll(validIntegerArray, batchResults);
+        blackhole.consume(batchResults);
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void manualParsingThenParseInt_valid(Blackhole blackhole) {
+        String text = getNextValid();
+        blackhole.consume(manualParsingChecker.isInteger(text) ? Integer.parseInt(text) : IntegerParser.INVALID);
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void manualParsingFused_valid(Blackhole blackhole) {
+        blackhole.consume(manualParsingChecker.parseInteger(getNextValid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void manualParsingThenParseInt_invalid(Blackhole blackhole) {
+        String text = getNextInvalid();
+        blackhole.consume(manualParsingChecker.isInteger(text) ? Integer.parseInt(text) : IntegerParser.INVALID);
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void manualParsingFused_invalid(Blackhole blackhole) {
+        blackhole.consume(manualParsingChecker.parseInteger(getNextInvalid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void manualParsingThenParseInt_large(Blackhole blackhole) {
+        String text = getNextLarge();
+        blackhole.consume(manualParsingChecker.isInteger(text) ? Integer.parseInt(text) : IntegerParser.INVALID);
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void manualParsingFused_large(Blackhole blackhole) {
+        blackhole.consume(manualParsingChecker.parseInteger(getNextLarge()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void charAtThenParseInt_valid(Blackhole blackhole) {
+        String text = getNextValid();
+        blackhole.consume(charAtChecker.isInteger(text) ? Integer.parseInt(text) : IntegerParser.INVALID);
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void charAtFused_valid(Blackhole blackhole) {
+        blackhole.consume(charAtChecker.parseInteger(getNextValid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void charAtThenParseInt_invalid(Blackhole blackhole) {
+        String text = getNextInvalid();
+        blackhole.consume(charAtChecker.isInteger(text) ? Integer.parseInt(text) : IntegerParser.INVALID);
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void charAtFused_invalid(Blackhole blackhole) {
+        blackhole.consume(charAtChecker.parseInteger(getNextInvalid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void charAtThenParseInt_large(Blackhole blackhole) {
+        String text = getNextLarge();
+        blackhole.consume(charAtChecker.isInteger(text) ? Integer.parseInt(text) : IntegerParser.INVALID);
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void charAtFused_large(Blackhole blackhole) {
+        blackhole.consume(charAtChecker.parseInteger(getNextLarge()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void rangeBatch_packed(Blackhole blackhole) {
+        rangeChecker.checkAll(packedFields, packedOffsets, packedLengths, packedMask);
+        blackhole.consume(packedMask);
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void range_packed(Blackhole blackhole) {
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            blackhole.consume(rangeChecker.isInteger(packedFields, packedOffsets[i], packedLengths[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void manualParsingNewString_packed(Blackhole blackhole) {
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            String field = new String(packedFields, packedOffsets[i], packedLengths[i], StandardCharsets.ISO_8859_1);
+            blackhole.consume(manualParsingChecker.isInteger(field));
+        }
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void radix_valid(Blackhole blackhole) {
+        blackhole.consume(radixChecker.isInteger(getNextValid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void radix_invalid(Blackhole blackhole) {
+        blackhole.consume(radixChecker.isInteger(getNextInvalid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void radix_large(Blackhole blackhole) {
+        blackhole.consume(radixChecker.isInteger(getNextLarge()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void radix_longDecimal(Blackhole blackhole) {
+        blackhole.consume(radixLongChecker.isInteger(getNextLongDecimal()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void parseLong_longDecimal(Blackhole blackhole) {
+        blackhole.consume(parsesAsLong(getNextLongDecimal(), 10));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void radix_hex(Blackhole blackhole) {
+        blackhole.consume(radixHexChecker.isInteger(getNextHex()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void parseLong_hex(Blackhole blackhole) {
+        blackhole.consume(parsesAsLong(getNextHex(), 16));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void characterDigit_valid(Blackhole blackhole) {
+        blackhole.consume(characterDigitChecker.isInteger(getNextValid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void characterDigit_invalid(Blackhole blackhole) {
+        blackhole.consume(characterDigitChecker.isInteger(getNextInvalid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void characterDigit_large(Blackhole blackhole) {
+        blackhole.consume(characterDigitChecker.isInteger(getNextLarge()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void unicodeDigit_valid(Blackhole blackhole) {
+        blackhole.consume(unicodeDigitChecker.isInteger(getNextValid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void unicodeDigit_invalid(Blackhole blackhole) {
+        blackhole.consume(unicodeDigitChecker.isInteger(getNextInvalid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void unicodeDigit_large(Blackhole blackhole) {
+        blackhole.consume(unicodeDigitChecker.isInteger(getNextLarge()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void dfa_valid(Blackhole blackhole) {
+        blackhole.consume(dfaChecker.isInteger(getNextValid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void dfa_invalid(Blackhole blackhole) {
+        blackhole.consume(dfaChecker.isInteger(getNextInvalid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void dfa_large(Blackhole blackhole) {
+        blackhole.consume(dfaChecker.isInteger(getNextLarge()));
+    }
+
+    @Benchmark
+    public void regex_mixed(MixedDataset dataset, Blackhole blackhole) {
+        blackhole.consume(regexChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    public void matches_mixed(MixedDataset dataset, Blackhole blackhole) {
+        blackhole.consume(matchesChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void dfa_mixed(MixedDataset dataset, Blackhole blackhole) {
+        blackhole.consume(dfaChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    public void caching_valid(Blackhole blackhole) {
+        blackhole.consume(cachingChecker.isInteger(getNextValid()));
+    }
+
+    @Benchmark
+    public void caching_invalid(Blackhole blackhole) {
+        blackhole.consume(cachingChecker.isInteger(getNextInvalid()));
+    }
+
+    @Benchmark
+    public void caching_zipfian(ZipfianDataset dataset, Blackhole blackhole) {
+        blackhole.consume(cachingChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void manualParsing_zipfian(ZipfianDataset dataset, Blackhole blackhole) {
+        blackhole.consume(manualParsingChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    public void cachingParse_zipfian(ZipfianDataset dataset, Blackhole blackhole) {
+        blackhole.consume(cachingParser.parseInteger(dataset.next()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void manualParsingFused_zipfian(ZipfianDataset dataset, Blackhole blackhole) {
+        blackhole.consume(manualParsingChecker.parseInteger(dataset.next()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void lengthSwitch_valid(Blackhole blackhole) {
+        blackhole.consume(lengthSwitchChecker.isInteger(getNextValid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void lengthSwitch_invalid(Blackhole blackhole) {
+        blackhole.consume(lengthSwitchChecker.isInteger(getNextInvalid()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void lengthSwitch_large(Blackhole blackhole) {
+        blackhole.consume(lengthSwitchChecker.isInteger(getNextLarge()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void lengthSwitch_lengthBucket(LengthBucketDataset dataset, Blackhole blackhole) {
+        blackhole.consume(lengthSwitchChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void manualParsing_lengthBucket(LengthBucketDataset dataset, Blackhole blackhole) {
+        blackhole.consume(manualParsingChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void charAt_lengthBucket(LengthBucketDataset dataset, Blackhole blackhole) {
+        blackhole.consume(charAtChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void swar_lengthBucket(LengthBucketDataset dataset, Blackhole blackhole) {
+        blackhole.consume(swarChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void dfa_lengthBucket(LengthBucketDataset dataset, Blackhole blackhole) {
+        blackhole.consume(dfaChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    public void tryCatch_lengthBucket(LengthBucketDataset dataset, Blackhole blackhole) {
+        blackhole.consume(tryCatchChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void tryCatch_mixedScript(Blackhole blackhole) {
+        blackhole.consume(tryCatchChecker.isInteger(getNextMixedScript()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void apacheCommons_mixedScript(Blackhole blackhole) {
+        blackhole.consume(apacheCommonsChecker.isInteger(getNextMixedScript()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void characterDigit_mixedScript(Blackhole blackhole) {
+        blackhole.consume(characterDigitChecker.isInteger(getNextMixedScript()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void unicodeDigit_mixedScript(Blackhole blackhole) {
+        blackhole.consume(unicodeDigitChecker.isInteger(getNextMixedScript()));
+    }
+
+    @Benchmark
+    public void tryCatch_mixed(MixedDataset dataset, Blackhole blackhole) {
+        blackhole.consume(tryCatchChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    public void optimizedTryCatch_mixed(MixedDataset dataset, Blackhole blackhole) {
+        blackhole.consume(optimizedTryCatchChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    public void apacheCommons_mixed(MixedDataset dataset, Blackhole blackhole) {
+        blackhole.consume(apacheCommonsChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void manualParsing_mixed(MixedDataset dataset, Blackhole blackhole) {
+        blackhole.consume(manualParsingChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void characterDigit_mixed(MixedDataset dataset, Blackhole blackhole) {
+        blackhole.consume(characterDigitChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void vector_length(LengthDataset dataset, Blackhole blackhole) {
+        blackhole.consume(vectorChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    public void charArray_length(LengthDataset dataset, Blackhole blackhole) {
+        blackhole.consume(charArrayChecker.isInteger(dataset.next()));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void manualParsing_length(LengthDataset dataset, Blackhole blackhole) {
+        blackhole.consume(manualParsingChecker.isInteger(dataset.next()));
+    }
+
+    /**
+     * Random ints mixed with the invalid inputs of the main dataset at an adjustable ratio, so the cost of
+     * throwing {@link NumberFormatException} can be compared against exception-free checkers.
+     */
+    @State(Scope.Benchmark)
+    public static class MixedDataset {
+        @Param({"0", "50", "95"})
+        public int invalidPercent;
+
+        private List<String> values;
+        private int index = 0;
+
+        @Setup
+        public void setup() {
+            var random = new Random(42);
+            values = new ArrayList<>(DATASET_SIZE);
+            for (int i = 0; i < DATASET_SIZE; i++) {
+                values.add(
+                        random.nextInt(100) < invalidPercent
+                                ? generateInvalidInteger(random)
+                                : String.valueOf(random.nextInt()));
+            }
+        }
+
+        String next() {
+            return values.get((index++) % DATASET_SIZE);
+        }
+    }
+
+    /**
+     * Tokens drawn from a fixed vocabulary with Zipf-distributed frequencies: rank {@code r} is picked with
+     * weight {@code 1 / r^skew}. The top ranks are status codes and small counters, the tail random ints and
+     * invalid inputs, so {@code skew} moves the mix between mostly repeated and mostly unique tokens.
+     */
+    @State(Scope.Benchmark)
+    public static class ZipfianDataset {
+        private static final int VOCABULARY_SIZE = 100_000;
+        private static final String[] FREQUENT_TOKENS = {
+            "0", "1", "200", "404", "2", "500", "201", "3", "204", "301", "10", "403", "4", "400", "5", "302"
+        };
+
+        @Param({"0.5", "1.0", "1.5"})
+        public double skew;
+
+        private List<String> values;
+        private int index = 0;
+
+        @Setup
+        public void setup() {
+            var random = new Random(42);
+            String[] vocabulary = new String[VOCABULARY_SIZE];
+            double[] cumulative = new double[VOCABULARY_SIZE];
+            double total = 0;
+            for (int rank = 0; rank < VOCABULARY_SIZE; rank++) {
+                if (rank < FREQUENT_TOKENS.length) {
+                    vocabulary[rank] = FREQUENT_TOKENS[rank];
+                } else {
+                    vocabulary[rank] =
+                            rank % 10 == 0 ? generateInvalidInteger(random) : String.valueOf(random.nextInt());
+                }
+                total += 1 / Math.pow(rank + 1, skew);
+                cumulative[rank] = total;
+            }
+
+            values = new ArrayList<>(DATASET_SIZE);
+            for (int i = 0; i < DATASET_SIZE; i++) {
+                int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                values.add(vocabulary[rank < 0 ? -rank - 1 : rank]);
+            }
+        }
+
+        String next() {
+            return values.get((index++) % DATASET_SIZE);
+        }
+    }
+
+    /**
+     * Inputs grouped by char count, sign included. {@code 1-3} and {@code 4-9} are valid ints, {@code 10} are
+     * 10-digit values of which about one in eight fits in an int, and {@code 11+} are 11 to 20 chars: signed
+     * 10-digit values and plain overlong digit strings.
+     */
+    @State(Scope.Benchmark)
+    public static class LengthBucketDataset {
+        @Param({"1-3", "4-9", "10", "11+"})
+        public String bucket;
+
+        private List<String> values;
+        private int index = 0;
+
+        @Setup
+        public void setup() {
+            var random = new Random(42);
+            values = new ArrayList<>(DATASET_SIZE);
+            for (int i = 0; i < DATASET_SIZE; i++) {
+                values.add(
+                        switch (bucket) {
+                            case "1-3" -> String.valueOf(random.nextInt(1000));
+                            case "4-9" -> String.valueOf(1000 + random.nextInt(999_999_000));
+                            case "10" -> String.valueOf(1_000_000_000L + random.nextLong(9_000_000_000L));
+                            case "11+" ->
+                                random.nextBoolean()
+                                        ? "-" + (1_000_000_000L + random.nextLong(9_000_000_000L))
+                                        : String.valueOf(random.nextLong(10_000_000_000L, Long.MAX_VALUE));
+                            default -> throw new IllegalArgumentException("Unknown bucket: " + bucket);
+                        });
+            }
+        }
+
+        String next() {
+            return values.get((index++) % DATASET_SIZE);
+        }
+    }
+
+    /**
+     * Valid integers of exactly {@code length} chars, 11 being a signed 10-digit value.
+     */
+    @State(Scope.Benchmark)
+    public static class LengthDataset {
+        @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11"})
+        public int length;
+
+        private List<String> values;
+        private int index = 0;
+
+        @Setup
+        public void setup() {
+            var random = new Random(42);
+            values = new ArrayList<>(DATASET_SIZE);
+            for (int i = 0; i < DATASET_SIZE; i++) {
+                values.add(generateOfLength(random, length));
+            }
+        }
+
+        private static String generateOfLength(Random random, int length) {
+            if (length == 11) {
+                return "-" + generateOfLength(random, 10);
+            }
+            if (length == 10) {
+                return String.valueOf(1_000_000_000 + random.nextInt(Integer.MAX_VALUE - 1_000_000_000));
+            }
+            int lower = length == 1 ? 0 : (int) Math.pow(10, length - 1);
+            int upper = (int) Math.pow(10, length);
+            return String.valueOf(lower + random.nextInt(upper - lower));
+        }
+
+        String next() {
+            return values.get((index++) % DATASET_SIZE);
+        }
+    }
+
     public static void main(String[] args) throws RunnerException {
-        var opt = new OptionsBuilder()
-                .include(IntegerCheckerBenchmark.class.getSimpleName())
-                .build();
-        new Runner(opt).run();
+        var opt = new OptionsBuilder().include(IntegerCheckerBenchmark.class.getSimpleName());
+        AllocationProfile.run(IntegerCheckerBenchmark.class, opt, args);
     }
 }
@@ -0,0 +1,131 @@
+package io.github.mm.isinteger.benchmark;
+
+import io.github.mm.isinteger.checker.CachingIntegerChecker;
+import io.github.mm.isinteger.checker.IntegerChecker;
+import io.github.mm.isinteger.checker.impl.*;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput of every checker under concurrency. The datasets and the checker are shared read-only, while
+ * each thread walks the dataset with its own {@link Cursor}, so threads never write to a common field. The
+ * exception is {@code caching}, whose lock-free table and hit counters all threads update.
+ * {@link #main} runs the suite at 1, 4 and all available threads; from the command line use {@code -t}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, warmups = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IntegerCheckerThroughputBenchmark {
+    private static final int DATASET_SIZE = 10000;
+
+    private static final Map<String, Supplier<IntegerChecker>> CHECKERS = Map.ofEntries(
+            Map.entry("tryCatch", TryCatchIntegerChecker::new),
+            Map.entry("regex", RegexIntegerChecker::new),
+            Map.entry("manualParsing", ManualParsingIntegerChecker::new),
+            Map.entry("charArray", CharArrayIntegerChecker::new),
+            Map.entry("stream", StreamIntegerChecker::new),
+            Map.entry("optimizedTryCatch", OptimizedTryCatchIntegerChecker::new),
+            Map.entry("scanner", ScannerIntegerChecker::new),
+            Map.entry("matches", MatchesIntegerChecker::new),
+            Map.entry("charAt", CharAtIntegerChecker::new),
+            Map.entry("apacheCommons", ApacheCommonsIntegerChecker::new),
+            Map.entry("swar", SwarIntegerChecker::new),
+            Map.entry("vector", VectorIntegerChecker::new),
+            Map.entry("range", ManualParsingRangeIntegerChecker::new),
+            Map.entry("radix", RadixIntegerChecker::new),
+            Map.entry("characterDigit", CharacterDigitIntegerChecker::new),
+            Map.entry("unicodeDigit", UnicodeDigitIntegerChecker::new),
+            Map.entry("dfa", DfaIntegerChecker::new),
+            Map.entry("caching", () -> new CachingIntegerChecker(new ManualParsingIntegerChecker())),
+            Map.entry("lengthSwitch", LengthSwitchIntegerChecker::new));
+
+    @Param({
+        "tryCatch",
+        "regex",
+        "manualParsing",
+        "charArray",
+        "stream",
+        "optimizedTryCatch",
+        "scanner",
+        "matches",
+        "charAt",
+        "apacheCommons",
+        "swar",
+        "vector",
+        "range",
+        "radix",
+        "characterDigit",
+        "unicodeDigit",
+        "dfa",
+        "caching",
+        "lengthSwitch"
+    })
+    public String checkerName;
+
+    private IntegerChecker checker;
+    private String[] validIntegers;
+    private String[] invalidIntegers;
+
+    @Setup
+    public void setup() {
+        checker = CHECKERS.get(checkerName).get();
+
+        var random = new Random(42);
+        validIntegers = new String[DATASET_SIZE];
+        invalidIntegers = new String[DATASET_SIZE];
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            validIntegers[i] = String.valueOf(random.nextInt(1000000));
+            invalidIntegers[i] = IntegerCheckerBenchmark.generateInvalidInteger(random);
+        }
+    }
+
+    /**
+     * Per-thread position in the datasets. Threads start spread out so they don't read the same strings in
+     * lockstep.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+
+        @Setup
+        public void setup(ThreadParams threadParams) {
+            index = threadParams.getThreadIndex() * (DATASET_SIZE / threadParams.getThreadCount());
+        }
+
+        int next() {
+            int current = index;
+            index = current + 1 == DATASET_SIZE ? 0 : current + 1;
+            return current;
+        }
+    }
+
+    @Benchmark
+    public boolean valid(Cursor cursor) {
+        return checker.isInteger(validIntegers[cursor.next()]);
+    }
+
+    @Benchmark
+    public boolean invalid(Cursor cursor) {
+        return checker.isInteger(invalidIntegers[cursor.next()]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : new int[] {1, 4, Runtime.getRuntime().availableProcessors()}) {
+            var opt = new OptionsBuilder()
+                    .include(IntegerCheckerThroughputBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(opt).run();
+        }
+    }
+}
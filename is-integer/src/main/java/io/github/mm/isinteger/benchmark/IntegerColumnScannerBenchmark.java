@@ -0,0 +1,98 @@
+package io.github.mm.isinteger.benchmark;
+
+import io.github.mm.isinteger.scanner.IntegerColumnScanner;
+import io.github.mm.isinteger.scanner.ScanResult;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Scans the integer column of a generated temp file and reports throughput as the {@code megabytes}
+ * secondary metric (MB/s). The file is built from fixed 32-byte rows so its size is an exact number of MB.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class IntegerColumnScannerBenchmark {
+    private static final int ROW_SIZE = 32;
+    private static final int ROWS_PER_MB = 1024 * 1024 / ROW_SIZE;
+
+    @Param({"128"})
+    public int fileSizeMb;
+
+    @Param({"1", "4", "0"})
+    public int parallelism;
+
+    private Path file;
+    private ForkJoinPool pool;
+    private IntegerColumnScanner scanner;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = Files.createTempFile("integer-column", ".csv");
+        writeRows(file, fileSizeMb * ROWS_PER_MB);
+        pool = new ForkJoinPool(parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism);
+        scanner = new IntegerColumnScanner(1, ',', 16, 8 * 1024 * 1024, pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    private static void writeRows(Path file, int rows) throws IOException {
+        var random = new Random(42);
+        try (var out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+            for (int i = 0; i < rows; i++) {
+                // "r000000001,-0012345678,payload0\n": 10 + 1 + 11 + 1 + 8 + 1 = 32 bytes
+                var value = String.format("%011d", random.nextInt());
+                if (random.nextInt(100) == 0) {
+                    value = value.substring(0, 5) + 'x' + value.substring(6);
+                }
+                var row = String.format("r%09d,%s,payload0\n", i % 1_000_000_000, value);
+                out.write(row.getBytes(StandardCharsets.ISO_8859_1));
+            }
+        }
+        if (Files.size(file) != (long) rows * ROW_SIZE) {
+            throw new IllegalStateException("Rows are not " + ROW_SIZE + " bytes: " + Files.size(file));
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long megabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            megabytes = 0;
+        }
+    }
+
+    @Benchmark
+    public ScanResult scan(Bytes bytes) throws IOException {
+        var result = scanner.scan(file);
+        bytes.megabytes += fileSizeMb;
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        var opt = new OptionsBuilder()
+                .include(IntegerColumnScannerBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
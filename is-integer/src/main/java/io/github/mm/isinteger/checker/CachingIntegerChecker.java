@@ -0,0 +1,53 @@
+package io.github.mm.isinteger.checker;
+
+/**
+ * Remembers the outcome for recently seen tokens so repeated values such as status codes skip validation.
+ * Tokens of up to 11 chars are kept in a fixed-size, lock-free table; longer ones always go to the delegate.
+ *
+ * <p>Any {@link IntegerChecker} can be wrapped, and {@link #isInteger(String)} always agrees with it, whatever
+ * syntax it accepts. Use {@link CachingIntegerParser} to cache parsed values as well.
+ */
+public final class CachingIntegerChecker implements IntegerChecker {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final long ACCEPTED = 1;
+    private static final long REJECTED = 0;
+
+    private final TokenCache cache;
+
+    public CachingIntegerChecker(IntegerChecker delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param delegate the checker consulted on a cache miss
+     * @param capacity maximum number of cached tokens, rounded up to a power of two
+     */
+    public CachingIntegerChecker(IntegerChecker delegate, int capacity) {
+        this.cache = new TokenCache(text -> delegate.isInteger(text) ? ACCEPTED : REJECTED, capacity);
+    }
+
+    @Override
+    public boolean isInteger(String text) {
+        return cache.lookup(text) == ACCEPTED;
+    }
+
+    /** Number of lookups answered from the cache. */
+    public long hits() {
+        return cache.hits();
+    }
+
+    /** Number of lookups that went to the delegate, not counting inputs that bypass the cache. */
+    public long misses() {
+        return cache.misses();
+    }
+
+    /** Share of cacheable lookups answered from the cache, 0 before the first lookup. */
+    public double hitRate() {
+        return cache.hitRate();
+    }
+
+    /** Maximum number of entries the cache holds. */
+    public int capacity() {
+        return cache.capacity();
+    }
+}
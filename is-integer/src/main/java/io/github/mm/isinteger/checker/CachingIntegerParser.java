@@ -0,0 +1,54 @@
+package io.github.mm.isinteger.checker;
+
+/**
+ * {@link CachingIntegerChecker} for an {@link IntegerParser}: the parsed value of each recently seen token is
+ * cached, so {@link #parseInteger(String)} and {@link #isInteger(String)} share one lookup and both agree with
+ * the delegate's {@code parseInteger}.
+ */
+public final class CachingIntegerParser implements IntegerParser {
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final TokenCache cache;
+
+    public CachingIntegerParser(IntegerParser delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param delegate the parser consulted on a cache miss
+     * @param capacity maximum number of cached tokens, rounded up to a power of two
+     */
+    public CachingIntegerParser(IntegerParser delegate, int capacity) {
+        this.cache = new TokenCache(delegate::parseInteger, capacity);
+    }
+
+    @Override
+    public boolean isInteger(String text) {
+        return cache.lookup(text) != INVALID;
+    }
+
+    @Override
+    public long parseInteger(String text) {
+        return cache.lookup(text);
+    }
+
+    /** Number of lookups answered from the cache. */
+    public long hits() {
+        return cache.hits();
+    }
+
+    /** Number of lookups that went to the delegate, not counting inputs that bypass the cache. */
+    public long misses() {
+        return cache.misses();
+    }
+
+    /** Share of cacheable lookups answered from the cache, 0 before the first lookup. */
+    public double hitRate() {
+        return cache.hitRate();
+    }
+
+    /** Maximum number of entries the cache holds. */
+    public int capacity() {
+        return cache.capacity();
+    }
+}
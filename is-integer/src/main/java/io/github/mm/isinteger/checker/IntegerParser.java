@@ -0,0 +1,21 @@
+package io.github.mm.isinteger.checker;
+
+/**
+ * An {@link IntegerChecker} that can also return the parsed value from the same pass over the input.
+ * Failures are reported through the {@link #INVALID} sentinel, so parsing never boxes, allocates or throws.
+ */
+public interface IntegerParser extends IntegerChecker {
+    /**
+     * Returned by {@link #parseInteger(String)} for input that {@link #isInteger(String)} rejects.
+     * It lies outside the int range, so it can never collide with a parsed value.
+     */
+    long INVALID = Long.MIN_VALUE;
+
+    /**
+     * Validates and parses the input in a single pass.
+     *
+     * @param text the input string to parse, may be null
+     * @return the parsed int widened to long, or {@link #INVALID} if the text is not a valid Java integer
+     */
+    long parseInteger(String text);
+}
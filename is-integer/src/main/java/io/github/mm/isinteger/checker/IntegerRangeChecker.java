@@ -0,0 +1,37 @@
+package io.github.mm.isinteger.checker;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Validates integers that live inside a larger buffer, so callers such as CSV readers can check a field
+ * in place instead of materializing a {@link String} for it. Validation rules match {@link IntegerChecker};
+ * byte sources are read as Latin-1/ASCII.
+ */
+public interface IntegerRangeChecker {
+    /**
+     * Checks whether {@code data[offset, offset + length)} is a valid Java integer.
+     */
+    boolean isInteger(byte[] data, int offset, int length);
+
+    /**
+     * Checks whether the {@code length} bytes at absolute index {@code offset} are a valid Java integer.
+     * The buffer's position and limit are not modified.
+     */
+    boolean isInteger(ByteBuffer data, int offset, int length);
+
+    /**
+     * Checks whether {@code data.subSequence(offset, offset + length)} is a valid Java integer.
+     */
+    boolean isInteger(CharSequence data, int offset, int length);
+
+    /**
+     * Validates every field of a packed buffer in one call without allocating.
+     *
+     * @param data the buffer holding all fields
+     * @param offsets start of field {@code i} in {@code data}
+     * @param lengths length of field {@code i}
+     * @param mask receives bit {@code i % 64} of word {@code i / 64} set when field {@code i} is valid;
+     *     must hold at least {@code (offsets.length + 63) / 64} words
+     */
+    void checkAll(byte[] data, int[] offsets, int[] lengths, long[] mask);
+}
@@ -0,0 +1,88 @@
+package io.github.mm.isinteger.checker;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * The table behind {@link CachingIntegerChecker} and {@link CachingIntegerParser}: a fixed-size open-addressing
+ * table of immutable entries keyed by string hash and content, mapping each token to a {@code long} result.
+ * Readers and writers never lock: a lookup probes a few slots, and an insert that finds them all taken replaces
+ * the home slot, so the table never grows past its capacity.
+ */
+final class TokenCache {
+    private static final int MAX_PROBES = 4;
+    // Longer tokens are rarely repeated and would only push out the short ones
+    private static final int MAX_CACHED_LENGTH = 11;
+
+    private record Entry(String text, int hash, long value) {}
+
+    private final ToLongFunction<String> compute;
+    private final AtomicReferenceArray<Entry> table;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param compute produces the result for a token that is not cached, called with null and long tokens too
+     * @param capacity maximum number of cached tokens, rounded up to a power of two
+     */
+    TokenCache(ToLongFunction<String> compute, int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        this.compute = compute;
+        this.table = new AtomicReferenceArray<>(capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1);
+        this.mask = table.length() - 1;
+    }
+
+    long lookup(String text) {
+        if (text == null || text.length() > MAX_CACHED_LENGTH) {
+            return compute.applyAsLong(text);
+        }
+
+        int hash = spread(text.hashCode());
+        int home = hash & mask;
+        int free = -1;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int slot = (home + probe) & mask;
+            Entry entry = table.get(slot);
+            if (entry == null) {
+                free = slot;
+                break;
+            }
+            if (entry.hash == hash && entry.text.equals(text)) {
+                hits.increment();
+                return entry.value;
+            }
+        }
+
+        misses.increment();
+        long value = compute.applyAsLong(text);
+        table.set(free >= 0 ? free : home, new Entry(text, hash, value));
+        return value;
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    int capacity() {
+        return table.length();
+    }
+
+    private static int spread(int hash) {
+        // String hashes of short digit strings differ mostly in the low bits, mix in the high ones anyway
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -1,12 +1,17 @@
 package io.github.mm.isinteger.checker.impl;
 
-import io.github.mm.isinteger.checker.IntegerChecker;
+import io.github.mm.isinteger.checker.IntegerParser;
 
-public class CharAtIntegerChecker implements IntegerChecker {
+public class CharAtIntegerChecker implements IntegerParser {
     @Override
     public boolean isInteger(String text) {
+        return parseInteger(text) != INVALID;
+    }
+
+    @Override
+    public long parseInteger(String text) {
         if (text == null || text.isEmpty()) {
-            return false;
+            return INVALID;
         }
 
         int length = text.length();
@@ -16,13 +21,13 @@ public class CharAtIntegerChecker implements IntegerChecker {
         char first = text.charAt(0);
         if (first == '-') {
             if (length == 1) {
-                return false;
+                return INVALID;
             }
             negative = true;
             start = 1;
         } else if (first == '+') {
             if (length == 1) {
-                return false;
+                return INVALID;
             }
             start = 1;
         }
@@ -31,7 +36,7 @@ public class CharAtIntegerChecker implements IntegerChecker {
         for (int i = start; i < length; i++) {
             char c = text.charAt(i);
             if (c < '0' || c > '9') {
-                return false;
+                return INVALID;
             }
 
             int digit = c - '0';
@@ -39,15 +44,15 @@ public class CharAtIntegerChecker implements IntegerChecker {
 
             if (negative) {
                 if (-result < Integer.MIN_VALUE) {
-                    return false;
+                    return INVALID;
                 }
             } else {
                 if (result > Integer.MAX_VALUE) {
-                    return false;
+                    return INVALID;
                 }
             }
         }
 
-        return true;
+        return negative ? -result : result;
     }
 }
@@ -0,0 +1,50 @@
+package io.github.mm.isinteger.checker.impl;
+
+import io.github.mm.isinteger.checker.IntegerChecker;
+
+/**
+ * Mirrors the loop of {@link Integer#parseInt(String)}: digits via {@link Character#digit(char, int)}, so
+ * Unicode decimal digits are accepted, and negative accumulation against a precomputed limit. Invalid input
+ * returns false instead of throwing {@link NumberFormatException}.
+ */
+public class CharacterDigitIntegerChecker implements IntegerChecker {
+    @Override
+    public boolean isInteger(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+
+        int length = text.length();
+        int i = 0;
+        int limit = -Integer.MAX_VALUE;
+
+        char first = text.charAt(0);
+        if (first < '0') {
+            if (first == '-') {
+                limit = Integer.MIN_VALUE;
+            } else if (first != '+') {
+                return false;
+            }
+            if (length == 1) {
+                return false;
+            }
+            i = 1;
+        }
+
+        int multiplyMin = limit / 10;
+        int result = 0;
+        while (i < length) {
+            int digit = Character.digit(text.charAt(i++), 10);
+            if (digit < 0 || result < multiplyMin) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+
+        return true;
+    }
+}
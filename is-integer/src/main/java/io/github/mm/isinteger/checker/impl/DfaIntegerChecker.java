@@ -0,0 +1,50 @@
+package io.github.mm.isinteger.checker.impl;
+
+import io.github.mm.isinteger.checker.IntegerChecker;
+import io.github.mm.isinteger.dfa.Dfa;
+
+/**
+ * Regex-style validation through a precompiled {@link Dfa} instead of {@code java.util.regex}: one table
+ * lookup per char and no {@code Matcher} allocation. The pattern bounds the significant digits to 10, so only
+ * 10-digit inputs need the extra comparison against the int limits.
+ */
+public class DfaIntegerChecker implements IntegerChecker {
+    private static final Dfa INTEGER_PATTERN = Dfa.compile("[+-]?0*\\d{1,10}");
+
+    private static final int MAX_DIGITS = 10;
+    private static final String MAX_VALUE_DIGITS = "2147483647";
+    private static final String MIN_VALUE_DIGITS = "2147483648";
+
+    @Override
+    public boolean isInteger(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+        if (!INTEGER_PATTERN.matches(text)) {
+            return false;
+        }
+
+        int length = text.length();
+        int start = 0;
+        char first = text.charAt(0);
+        if (first == '-' || first == '+') {
+            start = 1;
+        }
+        while (start < length - 1 && text.charAt(start) == '0') {
+            start++;
+        }
+        if (length - start < MAX_DIGITS) {
+            return true;
+        }
+
+        String limit = first == '-' ? MIN_VALUE_DIGITS : MAX_VALUE_DIGITS;
+        for (int i = 0; i < MAX_DIGITS; i++) {
+            char c = text.charAt(start + i);
+            char l = limit.charAt(i);
+            if (c != l) {
+                return c < l;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.mm.isinteger.checker.impl;
+
+import io.github.mm.isinteger.checker.IntegerChecker;
+
+/**
+ * Dispatches on the digit count before looking at the digits. More than 10 digits is rejected without reading
+ * them unless the first one is a leading zero, fewer than 10 never overflow, and only exactly 10 digits are
+ * compared against the int limits. The digit checks are a fall-through switch of straight-line code that ORs
+ * {@code (c - '0') | ('9' - c)} per char, which turns negative as soon as one char is not a digit.
+ */
+public class LengthSwitchIntegerChecker implements IntegerChecker {
+    private static final int MAX_DIGITS = 10;
+
+    @Override
+    public boolean isInteger(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+
+        int length = text.length();
+        int start = 0;
+        char first = text.charAt(0);
+        boolean negative = first == '-';
+        if (negative || first == '+') {
+            if (length == 1) {
+                return false;
+            }
+            start = 1;
+        }
+
+        if (length - start > MAX_DIGITS) {
+            if (text.charAt(start) != '0') {
+                return false;
+            }
+            while (start < length - 1 && text.charAt(start) == '0') {
+                start++;
+            }
+            if (length - start > MAX_DIGITS) {
+                return false;
+            }
+        }
+
+        int digits = length - start;
+        int bad = 0;
+        switch (digits) {
+            case 10:
+                bad |= nonDigit(text.charAt(start + 9));
+            case 9:
+                bad |= nonDigit(text.charAt(start + 8));
+            case 8:
+                bad |= nonDigit(text.charAt(start + 7));
+            case 7:
+                bad |= nonDigit(text.charAt(start + 6));
+            case 6:
+                bad |= nonDigit(text.charAt(start + 5));
+            case 5:
+                bad |= nonDigit(text.charAt(start + 4));
+            case 4:
+                bad |= nonDigit(text.charAt(start + 3));
+            case 3:
+                bad |= nonDigit(text.charAt(start + 2));
+            case 2:
+                bad |= nonDigit(text.charAt(start + 1));
+            default:
+                bad |= nonDigit(text.charAt(start));
+        }
+
+        if (bad < 0) {
+            return false;
+        }
+        if (digits < MAX_DIGITS) {
+            return true;
+        }
+        return tenDigitValue(text, start) <= (negative ? 2147483648L : Integer.MAX_VALUE);
+    }
+
+    // Negative if c is outside '0'-'9'
+    private static int nonDigit(char c) {
+        return (c - '0') | ('9' - c);
+    }
+
+    private static long tenDigitValue(String text, int start) {
+        long value = 0;
+        for (int i = start; i < start + MAX_DIGITS; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+}
@@ -1,12 +1,17 @@
 package io.github.mm.isinteger.checker.impl;
 
-import io.github.mm.isinteger.checker.IntegerChecker;
+import io.github.mm.isinteger.checker.IntegerParser;
 
-public class ManualParsingIntegerChecker implements IntegerChecker {
+public class ManualParsingIntegerChecker implements IntegerParser {
     @Override
     public boolean isInteger(String text) {
+        return parseInteger(text) != INVALID;
+    }
+
+    @Override
+    public long parseInteger(String text) {
         if (text == null || text.isEmpty()) {
-            return false;
+            return INVALID;
         }
 
         int length = text.length();
@@ -15,39 +20,35 @@ public class ManualParsingIntegerChecker implements IntegerChecker {
 
         if (text.charAt(0) == '-') {
             if (length == 1) {
-                return false;
+                return INVALID;
             }
             negative = true;
             i = 1;
         } else if (text.charAt(0) == '+') {
             if (length == 1) {
-                return false;
+                return INVALID;
             }
             i = 1;
         }
 
-        if (i >= length) {
-            return false;
-        }
-
         long result = 0;
         while (i < length) {
             char c = text.charAt(i++);
             if (c < '0' || c > '9') {
-                return false;
+                return INVALID;
             }
             result = result * 10 + (c - '0');
             if (negative) {
                 if (-result < Integer.MIN_VALUE) {
-                    return false;
+                    return INVALID;
                 }
             } else {
                 if (result > Integer.MAX_VALUE) {
-                    return false;
+                    return INVALID;
                 }
             }
         }
 
-        return true;
+        return negative ? -result : result;
     }
 }
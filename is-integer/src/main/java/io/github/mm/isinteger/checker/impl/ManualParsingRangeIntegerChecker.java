@@ -0,0 +1,147 @@
+package io.github.mm.isinteger.checker.impl;
+
+import io.github.mm.isinteger.checker.IntegerChecker;
+import io.github.mm.isinteger.checker.IntegerRangeChecker;
+import java.nio.ByteBuffer;
+
+public class ManualParsingRangeIntegerChecker implements IntegerChecker, IntegerRangeChecker {
+    @Override
+    public boolean isInteger(String text) {
+        if (text == null) {
+            return false;
+        }
+        return isInteger(text, 0, text.length());
+    }
+
+    @Override
+    public boolean isInteger(byte[] data, int offset, int length) {
+        if (length == 0) {
+            return false;
+        }
+
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+
+        if (data[i] == '-') {
+            if (length == 1) {
+                return false;
+            }
+            negative = true;
+            i++;
+        } else if (data[i] == '+') {
+            if (length == 1) {
+                return false;
+            }
+            i++;
+        }
+
+        long result = 0;
+        while (i < end) {
+            byte b = data[i++];
+            if (b < '0' || b > '9') {
+                return false;
+            }
+            result = result * 10 + (b - '0');
+            if (result > (negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean isInteger(ByteBuffer data, int offset, int length) {
+        if (length == 0) {
+            return false;
+        }
+
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+
+        byte first = data.get(i);
+        if (first == '-') {
+            if (length == 1) {
+                return false;
+            }
+            negative = true;
+            i++;
+        } else if (first == '+') {
+            if (length == 1) {
+                return false;
+            }
+            i++;
+        }
+
+        long result = 0;
+        while (i < end) {
+            byte b = data.get(i++);
+            if (b < '0' || b > '9') {
+                return false;
+            }
+            result = result * 10 + (b - '0');
+            if (result > (negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean isInteger(CharSequence data, int offset, int length) {
+        if (length == 0) {
+            return false;
+        }
+
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+
+        char first = data.charAt(i);
+        if (first == '-') {
+            if (length == 1) {
+                return false;
+            }
+            negative = true;
+            i++;
+        } else if (first == '+') {
+            if (length == 1) {
+                return false;
+            }
+            i++;
+        }
+
+        long result = 0;
+        while (i < end) {
+            char c = data.charAt(i++);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            result = result * 10 + (c - '0');
+            if (result > (negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public void checkAll(byte[] data, int[] offsets, int[] lengths, long[] mask) {
+        int count = offsets.length;
+        for (int word = 0; word < (count + 63) >>> 6; word++) {
+            int base = word << 6;
+            int limit = Math.min(64, count - base);
+            long bits = 0;
+            for (int bit = 0; bit < limit; bit++) {
+                if (isInteger(data, offsets[base + bit], lengths[base + bit])) {
+                    bits |= 1L << bit;
+                }
+            }
+            mask[word] = bits;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.mm.isinteger.checker.impl;
+
+import io.github.mm.isinteger.checker.IntegerChecker;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Validates signed integers of a given bit width (32 or 64) in any radix from 2 to 36. The digits of the
+ * largest and smallest values are precomputed once per instance, so the parse loop never accumulates a
+ * value: inputs with fewer significant digits are accepted outright and only inputs with exactly as many
+ * digits as the limit are compared against it, digit by digit, in the same pass.
+ */
+public class RadixIntegerChecker implements IntegerChecker {
+    private static final byte[] DIGIT_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(DIGIT_VALUES, (byte) -1);
+        for (int c = '0'; c <= '9'; c++) {
+            DIGIT_VALUES[c] = (byte) (c - '0');
+        }
+        for (int c = 'a'; c <= 'z'; c++) {
+            DIGIT_VALUES[c] = (byte) (c - 'a' + 10);
+            DIGIT_VALUES[Character.toUpperCase(c)] = (byte) (c - 'a' + 10);
+        }
+    }
+
+    private final int radix;
+    private final byte[] maxValueDigits;
+    private final byte[] minValueDigits;
+
+    public RadixIntegerChecker() {
+        this(Integer.SIZE, 10);
+    }
+
+    public RadixIntegerChecker(int bitWidth, int radix) {
+        if (bitWidth != Integer.SIZE && bitWidth != Long.SIZE) {
+            throw new IllegalArgumentException("bitWidth must be 32 or 64: " + bitWidth);
+        }
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) {
+            throw new IllegalArgumentException("radix must be between 2 and 36: " + radix);
+        }
+        this.radix = radix;
+        BigInteger minMagnitude = BigInteger.ONE.shiftLeft(bitWidth - 1);
+        this.maxValueDigits = digitValues(minMagnitude.subtract(BigInteger.ONE).toString(radix));
+        this.minValueDigits = digitValues(minMagnitude.toString(radix));
+    }
+
+    private static byte[] digitValues(String digits) {
+        byte[] values = new byte[digits.length()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = DIGIT_VALUES[digits.charAt(i)];
+        }
+        return values;
+    }
+
+    @Override
+    public boolean isInteger(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+
+        int length = text.length();
+        int start = 0;
+        boolean negative = false;
+
+        char first = text.charAt(0);
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                return false;
+            }
+            negative = first == '-';
+            start = 1;
+        }
+
+        while (start < length - 1 && text.charAt(start) == '0') {
+            start++;
+        }
+
+        byte[] limit = negative ? minValueDigits : maxValueDigits;
+        int digits = length - start;
+        if (digits > limit.length) {
+            return false;
+        }
+
+        // Only a number with as many digits as the limit can overflow; it must not exceed the limit digit-wise
+        boolean bounded = digits == limit.length;
+        for (int i = 0; i < digits; i++) {
+            char c = text.charAt(start + i);
+            int value = c < 128 ? DIGIT_VALUES[c] : -1;
+            if (value < 0 || value >= radix) {
+                return false;
+            }
+            if (bounded && value != limit[i]) {
+                if (value > limit[i]) {
+                    return false;
+                }
+                bounded = false;
+            }
+        }
+        return true;
+    }
+}
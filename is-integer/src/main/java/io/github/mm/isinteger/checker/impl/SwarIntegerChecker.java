@@ -0,0 +1,79 @@
+package io.github.mm.isinteger.checker.impl;
+
+import io.github.mm.isinteger.checker.IntegerChecker;
+
+public class SwarIntegerChecker implements IntegerChecker {
+    // Every byte of a digit word has '3' in the high nibble and stays there after adding 6
+    private static final long ZONE_MASK = 0xF0F0F0F0F0F0F0F0L;
+    private static final long ZONE_DIGITS = 0x3030303030303030L;
+    private static final long DIGIT_CARRY = 0x0606060606060606L;
+
+    private static final int MAX_DIGITS = 10;
+    private static final String MAX_VALUE_DIGITS = "2147483647";
+    private static final String MIN_VALUE_DIGITS = "2147483648";
+
+    @Override
+    public boolean isInteger(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+
+        int length = text.length();
+        int start = 0;
+        boolean negative = false;
+
+        char first = text.charAt(0);
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                return false;
+            }
+            negative = first == '-';
+            start = 1;
+        }
+
+        // Leading zeros never change the value, so only significant digits count towards the limit
+        while (start < length - 1 && text.charAt(start) == '0') {
+            start++;
+        }
+
+        int digits = length - start;
+        if (digits > MAX_DIGITS) {
+            return false;
+        }
+
+        for (int i = start; i < length; i += 8) {
+            if (!isDigitWord(text, i, Math.min(8, length - i))) {
+                return false;
+            }
+        }
+
+        if (digits < MAX_DIGITS) {
+            return true;
+        }
+
+        String limit = negative ? MIN_VALUE_DIGITS : MAX_VALUE_DIGITS;
+        for (int i = 0; i < MAX_DIGITS; i++) {
+            char c = text.charAt(start + i);
+            char l = limit.charAt(i);
+            if (c != l) {
+                return c < l;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigitWord(String text, int offset, int count) {
+        // Unused bytes stay '0' so a partial word passes the same test as a full one
+        long word = ZONE_DIGITS;
+        int spill = 0;
+        for (int k = 0; k < count; k++) {
+            char c = text.charAt(offset + k);
+            spill |= c;
+            word ^= (long) (c ^ '0') << (k << 3);
+        }
+        if (spill > 0xFF) {
+            return false;
+        }
+        return (word & ZONE_MASK) == ZONE_DIGITS && ((word + DIGIT_CARRY) & ZONE_MASK) == ZONE_DIGITS;
+    }
+}
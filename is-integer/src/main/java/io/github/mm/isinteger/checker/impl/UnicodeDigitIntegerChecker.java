@@ -0,0 +1,60 @@
+package io.github.mm.isinteger.checker.impl;
+
+import io.github.mm.isinteger.checker.IntegerChecker;
+
+/**
+ * Accepts exactly what {@link Integer#parseInt(String)} accepts. ASCII digits are handled with a plain range
+ * check; {@link Character#digit(char, int)} is only consulted once a char outside Latin-1 shows up, since
+ * Latin-1 holds no decimal digits besides '0'-'9'.
+ */
+public class UnicodeDigitIntegerChecker implements IntegerChecker {
+    private static final int LATIN1_LIMIT = 0x100;
+
+    @Override
+    public boolean isInteger(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+
+        int length = text.length();
+        int i = 0;
+        int limit = -Integer.MAX_VALUE;
+
+        char first = text.charAt(0);
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                return false;
+            }
+            if (first == '-') {
+                limit = Integer.MIN_VALUE;
+            }
+            i = 1;
+        }
+
+        int multiplyMin = limit / 10;
+        int result = 0;
+        while (i < length) {
+            char c = text.charAt(i++);
+            int digit = c - '0';
+            if (digit < 0 || digit > 9) {
+                if (c < LATIN1_LIMIT) {
+                    return false;
+                }
+                digit = Character.digit(c, 10);
+                if (digit < 0) {
+                    return false;
+                }
+            }
+            if (result < multiplyMin) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.mm.isinteger.checker.impl;
+
+import io.github.mm.isinteger.checker.IntegerChecker;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+public class VectorIntegerChecker implements IntegerChecker {
+    // 128-bit shapes cover a full int (up to 11 chars) in one or two steps
+    private static final VectorSpecies<Short> CHAR_SPECIES = ShortVector.SPECIES_128;
+    private static final VectorSpecies<Byte> BYTE_SPECIES = ByteVector.SPECIES_128;
+
+    private static final int MAX_DIGITS = 10;
+    private static final byte[] MAX_VALUE_DIGITS = {'2', '1', '4', '7', '4', '8', '3', '6', '4', '7'};
+    private static final byte[] MIN_VALUE_DIGITS = {'2', '1', '4', '7', '4', '8', '3', '6', '4', '8'};
+    // Grows for text with many leading zeros and is kept, so steady-state calls copy without allocating
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[16]);
+
+    @Override
+    public boolean isInteger(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+        int length = text.length();
+        char[] buffer = bufferFor(length);
+        text.getChars(0, length, buffer, 0);
+        return isInteger(buffer, 0, length);
+    }
+
+    /**
+     * Validates every string in one call, reusing the per-thread char buffer for the whole batch.
+     *
+     * @param texts the strings to check, elements may be null
+     * @param results receives {@code isInteger(texts[i])} at index {@code i}
+     */
+    public void checkAll(String[] texts, boolean[] results) {
+        for (int i = 0; i < texts.length; i++) {
+            String text = texts[i];
+            if (text == null) {
+                results[i] = false;
+                continue;
+            }
+            int length = text.length();
+            char[] buffer = bufferFor(length);
+            text.getChars(0, length, buffer, 0);
+            results[i] = isInteger(buffer, 0, length);
+        }
+    }
+
+    /**
+     * Validates a packed column of Latin-1 fields without materializing a String per field.
+     *
+     * @param column the packed field bytes
+     * @param offsets start of field {@code i} in {@code column}
+     * @param lengths length of field {@code i}
+     * @param results receives the validation result of field {@code i}
+     */
+    public void checkAll(byte[] column, int[] offsets, int[] lengths, boolean[] results) {
+        for (int i = 0; i < offsets.length; i++) {
+            results[i] = isInteger(column, offsets[i], lengths[i]);
+        }
+    }
+
+    private static char[] bufferFor(int length) {
+        char[] buffer = BUFFER.get();
+        if (buffer.length < length) {
+            buffer = new char[Math.max(length, buffer.length * 2)];
+            BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+
+    private static boolean isInteger(char[] chars, int offset, int length) {
+        if (length == 0) {
+            return false;
+        }
+
+        int end = offset + length;
+        int start = offset;
+        boolean negative = false;
+
+        char first = chars[start];
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                return false;
+            }
+            negative = first == '-';
+            start++;
+        }
+
+        while (start < end - 1 && chars[start] == '0') {
+            start++;
+        }
+
+        int digits = end - start;
+        if (digits > MAX_DIGITS) {
+            return false;
+        }
+
+        for (int i = start; i < end; i += CHAR_SPECIES.length()) {
+            VectorMask<Short> inRange = CHAR_SPECIES.indexInRange(i, end);
+            ShortVector v = ShortVector.fromCharArray(CHAR_SPECIES, chars, i, inRange);
+            // Chars above 0x7FFF are negative shorts and fail the lower bound
+            if (v.lt((short) '0')
+                    .or(v.compare(VectorOperators.GT, (short) '9'))
+                    .and(inRange)
+                    .anyTrue()) {
+                return false;
+            }
+        }
+
+        if (digits < MAX_DIGITS) {
+            return true;
+        }
+
+        byte[] limit = negative ? MIN_VALUE_DIGITS : MAX_VALUE_DIGITS;
+        for (int i = 0; i < MAX_DIGITS; i++) {
+            char c = chars[start + i];
+            if (c != limit[i]) {
+                return c < limit[i];
+            }
+        }
+        return true;
+    }
+
+    private static boolean isInteger(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return false;
+        }
+
+        int end = offset + length;
+        int start = offset;
+        boolean negative = false;
+
+        byte first = bytes[start];
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                return false;
+            }
+            negative = first == '-';
+            start++;
+        }
+
+        while (start < end - 1 && bytes[start] == '0') {
+            start++;
+        }
+
+        int digits = end - start;
+        if (digits > MAX_DIGITS) {
+            return false;
+        }
+
+        for (int i = start; i < end; i += BYTE_SPECIES.length()) {
+            VectorMask<Byte> inRange = BYTE_SPECIES.indexInRange(i, end);
+            ByteVector v = ByteVector.fromArray(BYTE_SPECIES, bytes, i, inRange);
+            // Bytes above 0x7F are negative and fail the lower bound
+            if (v.lt((byte) '0')
+                    .or(v.compare(VectorOperators.GT, (byte) '9'))
+                    .and(inRange)
+                    .anyTrue()) {
+                return false;
+            }
+        }
+
+        if (digits < MAX_DIGITS) {
+            return true;
+        }
+
+        byte[] limit = negative ? MIN_VALUE_DIGITS : MAX_VALUE_DIGITS;
+        for (int i = 0; i < MAX_DIGITS; i++) {
+            byte b = bytes[start + i];
+            if (b != limit[i]) {
+                return b < limit[i];
+            }
+        }
+        return true;
+    }
+}
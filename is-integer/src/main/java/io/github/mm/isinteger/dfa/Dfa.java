@@ -0,0 +1,298 @@
+package io.github.mm.isinteger.dfa;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table-driven matcher for anchored ASCII patterns. The pattern is compiled once into a {@code byte[]}
+ * transition table, so {@link #matches(CharSequence)} is a single pass with one table lookup per char, no
+ * backtracking and no allocation.
+ *
+ * <p>Supported syntax: literal chars, {@code \d}, escaped literals such as {@code \+}, character classes with
+ * ranges ({@code [+-]}, {@code [0-9a-f]}), and the quantifiers {@code ?}, {@code *}, {@code +}, {@code {n}},
+ * {@code {m,n}} and {@code {m,}}. A leading {@code ^} and trailing {@code $} are accepted but redundant, since
+ * every match covers the whole input. Groups, alternation, negated classes and {@code .} are not supported.
+ */
+public final class Dfa {
+    private static final int ASCII_LIMIT = 128;
+    private static final int DEAD = 0;
+    private static final int MAX_STATES = Byte.MAX_VALUE;
+
+    private final byte[] classes;
+    private final int classCount;
+    private final byte[] transitions;
+    private final boolean[] accepting;
+    private final int start;
+
+    private Dfa(byte[] classes, int classCount, byte[] transitions, boolean[] accepting, int start) {
+        this.classes = classes;
+        this.classCount = classCount;
+        this.transitions = transitions;
+        this.accepting = accepting;
+        this.start = start;
+    }
+
+    /**
+     * Compiles {@code pattern} into a DFA.
+     *
+     * @throws IllegalArgumentException if the pattern uses unsupported syntax or needs more than 127 states
+     */
+    public static Dfa compile(String pattern) {
+        return new Compiler(parse(pattern)).compile();
+    }
+
+    /**
+     * Returns whether the whole of {@code text} matches the pattern.
+     */
+    public boolean matches(CharSequence text) {
+        int state = start;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= ASCII_LIMIT) {
+                return false;
+            }
+            state = transitions[state * classCount + classes[c]];
+            if (state == DEAD) {
+                return false;
+            }
+        }
+        return accepting[state];
+    }
+
+    /** Number of states including the dead state. */
+    public int stateCount() {
+        return accepting.length;
+    }
+
+    // One char position of the expanded pattern: x+ becomes x x*, x{2,4} becomes x x x? x?
+    private record Slot(BitSet chars, boolean optional, boolean repeated) {}
+
+    private static List<Slot> parse(String pattern) {
+        var slots = new ArrayList<Slot>();
+        int end = pattern.length();
+        int i = 0;
+        if (i < end && pattern.charAt(i) == '^') {
+            i++;
+        }
+        if (end > i && pattern.charAt(end - 1) == '$' && (end < 2 || pattern.charAt(end - 2) != '\\')) {
+            end--;
+        }
+
+        while (i < end) {
+            var chars = new BitSet(ASCII_LIMIT);
+            char c = pattern.charAt(i++);
+            switch (c) {
+                case '[' -> i = parseClass(pattern, i, end, chars);
+                case '\\' -> i = parseEscape(pattern, i, end, chars);
+                case '?', '*', '+', '{', '}', ']', '(', ')', '|', '.', '^', '$' ->
+                    throw new IllegalArgumentException("Unsupported '" + c + "' at index " + (i - 1) + ": " + pattern);
+                default -> chars.set(ascii(c, pattern));
+            }
+
+            int min = 1;
+            int max = 1;
+            if (i < end) {
+                switch (pattern.charAt(i)) {
+                    case '?' -> {
+                        min = 0;
+                        i++;
+                    }
+                    case '*' -> {
+                        min = 0;
+                        max = -1;
+                        i++;
+                    }
+                    case '+' -> {
+                        max = -1;
+                        i++;
+                    }
+                    case '{' -> {
+                        int close = pattern.indexOf('}', i);
+                        if (close < 0 || close >= end) {
+                            throw new IllegalArgumentException("Unclosed '{' at index " + i + ": " + pattern);
+                        }
+                        String bounds = pattern.substring(i + 1, close);
+                        int comma = bounds.indexOf(',');
+                        try {
+                            min = Integer.parseInt(comma < 0 ? bounds : bounds.substring(0, comma));
+                            max = comma < 0
+                                    ? min
+                                    : comma == bounds.length() - 1 ? -1 : Integer.parseInt(bounds.substring(comma + 1));
+                        } catch (NumberFormatException e) {
+                            throw new IllegalArgumentException("Invalid repetition at index " + i + ": " + pattern, e);
+                        }
+                        if (min < 0 || (max >= 0 && max < min)) {
+                            throw new IllegalArgumentException("Invalid repetition at index " + i + ": " + pattern);
+                        }
+                        i = close + 1;
+                    }
+                    default -> {}
+                }
+            }
+
+            for (int k = 0; k < min; k++) {
+                slots.add(new Slot(chars, false, false));
+            }
+            if (max < 0) {
+                slots.add(new Slot(chars, true, true));
+            } else {
+                for (int k = min; k < max; k++) {
+                    slots.add(new Slot(chars, true, false));
+                }
+            }
+        }
+        return slots;
+    }
+
+    private static int parseClass(String pattern, int i, int end, BitSet chars) {
+        int first = i;
+        while (i < end && (pattern.charAt(i) != ']' || i == first)) {
+            char c = pattern.charAt(i++);
+            if (c == '\\') {
+                i = parseEscape(pattern, i, end, chars);
+            } else if (i + 1 < end && pattern.charAt(i) == '-' && pattern.charAt(i + 1) != ']') {
+                char last = pattern.charAt(i + 1);
+                if (last < c) {
+                    throw new IllegalArgumentException("Invalid range " + c + "-" + last + ": " + pattern);
+                }
+                chars.set(ascii(c, pattern), ascii(last, pattern) + 1);
+                i += 2;
+            } else if (c == '^' && i - 1 == first) {
+                throw new IllegalArgumentException("Negated classes are not supported: " + pattern);
+            } else {
+                chars.set(ascii(c, pattern));
+            }
+        }
+        if (i >= end) {
+            throw new IllegalArgumentException("Unclosed '[' in " + pattern);
+        }
+        return i + 1;
+    }
+
+    private static int parseEscape(String pattern, int i, int end, BitSet chars) {
+        if (i >= end) {
+            throw new IllegalArgumentException("Dangling '\\' in " + pattern);
+        }
+        char c = pattern.charAt(i);
+        if (c == 'd') {
+            chars.set('0', '9' + 1);
+        } else if (Character.isLetterOrDigit(c)) {
+            throw new IllegalArgumentException("Unsupported escape \\" + c + ": " + pattern);
+        } else {
+            chars.set(ascii(c, pattern));
+        }
+        return i + 1;
+    }
+
+    private static int ascii(char c, String pattern) {
+        if (c >= ASCII_LIMIT) {
+            throw new IllegalArgumentException("Only ASCII patterns are supported: " + pattern);
+        }
+        return c;
+    }
+
+    /**
+     * Subset construction over the slots. A DFA state is the set of slots the next char may match, with the
+     * slot count itself standing for "end of pattern reached".
+     */
+    private static final class Compiler {
+        private final List<Slot> slots;
+        private final byte[] classes = new byte[ASCII_LIMIT];
+        private final List<BitSet> classChars = new ArrayList<>();
+        private final Map<BitSet, Integer> stateIds = new HashMap<>();
+        private final List<BitSet> states = new ArrayList<>();
+
+        Compiler(List<Slot> slots) {
+            this.slots = slots;
+        }
+
+        Dfa compile() {
+            partitionAlphabet();
+
+            states.add(new BitSet());
+            stateIds.put(new BitSet(), DEAD);
+            var initial = new BitSet();
+            close(0, initial);
+            int startState = stateOf(initial);
+
+            var rows = new ArrayList<int[]>();
+            rows.add(new int[classChars.size()]);
+            for (int s = 1; s < states.size(); s++) {
+                int[] row = new int[classChars.size()];
+                for (int cls = 0; cls < classChars.size(); cls++) {
+                    row[cls] = stateOf(step(states.get(s), classChars.get(cls).nextSetBit(0)));
+                }
+                rows.add(row);
+            }
+
+            int classCount = classChars.size();
+            byte[] transitions = new byte[rows.size() * classCount];
+            boolean[] accepting = new boolean[rows.size()];
+            for (int s = 0; s < rows.size(); s++) {
+                for (int cls = 0; cls < classCount; cls++) {
+                    transitions[s * classCount + cls] = (byte) rows.get(s)[cls];
+                }
+                accepting[s] = states.get(s).get(slots.size());
+            }
+            return new Dfa(classes, classCount, transitions, accepting, startState);
+        }
+
+        // Chars matched by exactly the same slots behave identically, so they share a table column
+        private void partitionAlphabet() {
+            var signatures = new HashMap<BitSet, Integer>();
+            for (int c = 0; c < ASCII_LIMIT; c++) {
+                var signature = new BitSet(slots.size());
+                for (int p = 0; p < slots.size(); p++) {
+                    if (slots.get(p).chars().get(c)) {
+                        signature.set(p);
+                    }
+                }
+                Integer cls = signatures.get(signature);
+                if (cls == null) {
+                    cls = classChars.size();
+                    signatures.put(signature, cls);
+                    classChars.add(new BitSet(ASCII_LIMIT));
+                }
+                classChars.get(cls).set(c);
+                classes[c] = (byte) cls.intValue();
+            }
+        }
+
+        private BitSet step(BitSet state, int c) {
+            var next = new BitSet();
+            for (int p = state.nextSetBit(0); p >= 0 && p < slots.size(); p = state.nextSetBit(p + 1)) {
+                Slot slot = slots.get(p);
+                if (slot.chars().get(c)) {
+                    close(p + 1, next);
+                    if (slot.repeated()) {
+                        close(p, next);
+                    }
+                }
+            }
+            return next;
+        }
+
+        private void close(int position, BitSet state) {
+            while (position < slots.size() && slots.get(position).optional()) {
+                state.set(position++);
+            }
+            state.set(position);
+        }
+
+        private int stateOf(BitSet state) {
+            Integer id = stateIds.get(state);
+            if (id == null) {
+                if (states.size() == MAX_STATES) {
+                    throw new IllegalArgumentException("Pattern needs more than " + MAX_STATES + " states");
+                }
+                id = states.size();
+                stateIds.put(state, id);
+                states.add(state);
+            }
+            return id;
+        }
+    }
+}
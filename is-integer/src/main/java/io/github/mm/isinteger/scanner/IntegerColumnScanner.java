@@ -0,0 +1,201 @@
+package io.github.mm.isinteger.scanner;
+
+import io.github.mm.isinteger.checker.IntegerRangeChecker;
+import io.github.mm.isinteger.checker.impl.ManualParsingRangeIntegerChecker;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Checks whether one column of a delimited file holds only integers without loading the file on the heap.
+ * The file is cut into line-aligned splits that are memory-mapped and validated in parallel on a
+ * {@link ForkJoinPool}, using the byte-level manual parsing of {@link ManualParsingRangeIntegerChecker}.
+ * Lines end with {@code \n} (a trailing {@code \r} is ignored); there is no quoting or header handling.
+ */
+public class IntegerColumnScanner {
+    private static final int DEFAULT_SPLIT_SIZE = 32 * 1024 * 1024;
+    private static final int DEFAULT_MAX_INVALID_OFFSETS = 16;
+    private static final int BOUNDARY_PROBE_SIZE = 4096;
+
+    private final IntegerRangeChecker checker = new ManualParsingRangeIntegerChecker();
+    private final int column;
+    private final byte delimiter;
+    private final int maxInvalidOffsets;
+    private final int splitSize;
+    private final ForkJoinPool pool;
+
+    public IntegerColumnScanner(int column, char delimiter) {
+        this(column, delimiter, DEFAULT_MAX_INVALID_OFFSETS, DEFAULT_SPLIT_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param column zero-based index of the column to validate
+     * @param delimiter ASCII field delimiter
+     * @param maxInvalidOffsets how many invalid field offsets to report
+     * @param splitSize target bytes per mapped split; splits are extended to the next line boundary
+     * @param pool the pool running the split tasks
+     */
+    public IntegerColumnScanner(int column, char delimiter, int maxInvalidOffsets, int splitSize, ForkJoinPool pool) {
+        if (column < 0) {
+            throw new IllegalArgumentException("column must not be negative: " + column);
+        }
+        if (delimiter > 0x7F || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("delimiter must be an ASCII char other than CR/LF");
+        }
+        if (maxInvalidOffsets < 0 || splitSize <= 0) {
+            throw new IllegalArgumentException("maxInvalidOffsets must be >= 0 and splitSize > 0");
+        }
+        this.column = column;
+        this.delimiter = (byte) delimiter;
+        this.maxInvalidOffsets = maxInvalidOffsets;
+        this.splitSize = splitSize;
+        this.pool = pool;
+    }
+
+    public ScanResult scan(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] splits = lineAlignedSplits(channel);
+            return pool.invoke(new ScanTask(channel, splits, 0, splits.length - 1));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long[] lineAlignedSplits(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long[] splits = new long[(int) (size / splitSize) + 2];
+        int count = 1;
+
+        long next = splitSize;
+        while (next < size) {
+            long lineStart = nextLineStart(channel, next - 1, size);
+            if (lineStart >= size) {
+                break;
+            }
+            splits[count++] = lineStart;
+            next = lineStart + splitSize;
+        }
+        splits[count++] = size;
+        return Arrays.copyOf(splits, count);
+    }
+
+    private static long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+        var probe = ByteBuffer.allocate(BOUNDARY_PROBE_SIZE);
+        long position = from;
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private ScanResult scanSplit(FileChannel channel, long start, long end) {
+        long length = end - start;
+        if (length > Integer.MAX_VALUE) {
+            throw new UncheckedIOException(new IOException("Line at offset " + start + " does not fit one mapping"));
+        }
+
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int limit = (int) length;
+        long rows = 0;
+        long invalidRows = 0;
+        long[] invalidOffsets = new long[maxInvalidOffsets];
+        int invalidOffsetCount = 0;
+
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int pos = lineStart;
+            int field = 0;
+            while (field < column && pos < limit) {
+                byte b = buffer.get(pos);
+                if (b == '\n') {
+                    break;
+                }
+                if (b == delimiter) {
+                    field++;
+                }
+                pos++;
+            }
+
+            int fieldStart = pos;
+            int fieldEnd = pos;
+            while (fieldEnd < limit) {
+                byte b = buffer.get(fieldEnd);
+                if (b == delimiter || b == '\n') {
+                    break;
+                }
+                fieldEnd++;
+            }
+
+            int lineEnd = fieldEnd;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+
+            boolean present = field == column;
+            int fieldLength = fieldEnd - fieldStart;
+            if (present && fieldEnd == lineEnd && fieldLength > 0 && buffer.get(fieldEnd - 1) == '\r') {
+                fieldLength--;
+            }
+
+            rows++;
+            if (!present || !checker.isInteger(buffer, fieldStart, fieldLength)) {
+                invalidRows++;
+                if (invalidOffsetCount < maxInvalidOffsets) {
+                    invalidOffsets[invalidOffsetCount++] = start + (present ? fieldStart : lineStart);
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+
+        return new ScanResult(rows, invalidRows, Arrays.copyOf(invalidOffsets, invalidOffsetCount));
+    }
+
+    private final class ScanTask extends RecursiveTask<ScanResult> {
+        private final FileChannel channel;
+        private final long[] splits;
+        private final int from;
+        private final int to;
+
+        ScanTask(FileChannel channel, long[] splits, int from, int to) {
+            this.channel = channel;
+            this.splits = splits;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ScanResult compute() {
+            if (to - from == 1) {
+                return scanSplit(channel, splits[from], splits[to]);
+            }
+            int mid = (from + to) >>> 1;
+            var left = new ScanTask(channel, splits, from, mid);
+            left.fork();
+            var right = new ScanTask(channel, splits, mid, to).compute();
+            return left.join().merge(right, maxInvalidOffsets);
+        }
+    }
+}
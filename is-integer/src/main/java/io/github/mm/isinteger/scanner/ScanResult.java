@@ -0,0 +1,30 @@
+package io.github.mm.isinteger.scanner;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of an {@link IntegerColumnScanner} run.
+ *
+ * @param rows number of lines scanned
+ * @param invalidRows number of lines whose column is missing or not a valid Java integer
+ * @param firstInvalidOffsets file offsets of the first invalid fields in file order (line start when the
+ *     column is missing), capped at the scanner's configured limit
+ */
+public record ScanResult(long rows, long invalidRows, long[] firstInvalidOffsets) {
+
+    public long validRows() {
+        return rows - invalidRows;
+    }
+
+    public boolean allValid() {
+        return invalidRows == 0;
+    }
+
+    ScanResult merge(ScanResult next, int maxInvalidOffsets) {
+        int keep = Math.min(maxInvalidOffsets, firstInvalidOffsets.length + next.firstInvalidOffsets.length);
+        long[] offsets = Arrays.copyOf(firstInvalidOffsets, keep);
+        System.arraycopy(
+                next.firstInvalidOffsets, 0, offsets, firstInvalidOffsets.length, keep - firstInvalidOffsets.length);
+        return new ScanResult(rows + next.rows, invalidRows + next.invalidRows, offsets);
+    }
+}
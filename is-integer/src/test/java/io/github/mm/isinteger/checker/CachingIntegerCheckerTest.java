@@ -0,0 +1,93 @@
+package io.github.mm.isinteger.checker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.mm.isinteger.checker.impl.ManualParsingIntegerChecker;
+import io.github.mm.isinteger.checker.impl.RadixIntegerChecker;
+import io.github.mm.isinteger.checker.impl.TryCatchIntegerChecker;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class CachingIntegerCheckerTest {
+
+    @Test
+    void shouldAnswerRepeatedTokensFromCache() {
+        var calls = new AtomicInteger();
+        var checker = new CachingIntegerChecker(text -> {
+            calls.incrementAndGet();
+            return new ManualParsingIntegerChecker().isInteger(text);
+        });
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(checker.isInteger("200"));
+            assertFalse(checker.isInteger("4o4"));
+        }
+
+        assertEquals(2, calls.get());
+        assertEquals(2, checker.misses());
+        assertEquals(198, checker.hits());
+        assertEquals(198 / 200.0, checker.hitRate(), 1e-9);
+    }
+
+    @Test
+    void shouldAgreeWithCheckerThatDoesNotParse() {
+        var hex = new RadixIntegerChecker(32, 16);
+        var checker = new CachingIntegerChecker(hex);
+
+        for (var text : List.of("ff", "-7FFFFFFF", "80000000", "-80000000", "10", "fg", "", "0x1f")) {
+            for (int round = 0; round < 2; round++) {
+                assertEquals(hex.isInteger(text), checker.isInteger(text), text);
+            }
+        }
+        assertEquals(8, checker.misses());
+        assertEquals(8, checker.hits());
+        assertFalse(checker.isInteger(null));
+
+        var decimal = new CachingIntegerChecker(new TryCatchIntegerChecker());
+        assertTrue(decimal.isInteger("007"));
+        assertFalse(decimal.isInteger("2147483648"));
+    }
+
+    @Test
+    void shouldStayWithinCapacity() {
+        var checker = new CachingIntegerChecker(new ManualParsingIntegerChecker(), 100);
+        assertEquals(128, checker.capacity());
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(checker.isInteger(String.valueOf(i)));
+            assertFalse(checker.isInteger(i + "x"));
+        }
+        // Evicted tokens are recomputed, never answered wrongly
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(checker.isInteger(String.valueOf(i)));
+            assertFalse(checker.isInteger(i + "x"));
+        }
+        assertTrue(checker.hits() <= 128);
+    }
+
+    @Test
+    void shouldBeSafeUnderConcurrentUse() {
+        var checker = new CachingIntegerChecker(new ManualParsingIntegerChecker(), 16);
+        var futures = IntStream.range(0, 8)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        int value = (i * 31 + thread) % 64;
+                        assertTrue(checker.isInteger(String.valueOf(value)));
+                        assertFalse(checker.isInteger(value + "x"));
+                    }
+                }))
+                .toList();
+
+        futures.forEach(CompletableFuture::join);
+        assertEquals(8 * 100_000, checker.hits() + checker.misses());
+    }
+
+    @Test
+    void shouldRejectInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingIntegerChecker(new TryCatchIntegerChecker(), 0));
+        assertEquals(1, new CachingIntegerChecker(new TryCatchIntegerChecker(), 1).capacity());
+    }
+}
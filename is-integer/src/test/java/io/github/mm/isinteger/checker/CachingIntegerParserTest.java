@@ -0,0 +1,70 @@
+package io.github.mm.isinteger.checker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.mm.isinteger.checker.impl.ManualParsingIntegerChecker;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class CachingIntegerParserTest {
+
+    @Test
+    void shouldMatchDelegate() {
+        var delegate = new ManualParsingIntegerChecker();
+        var parser = new CachingIntegerParser(delegate);
+
+        for (var text : List.of("0", "-0", "007", "+123", "-2147483648", "2147483648", "", "1e10", "00000000000042")) {
+            for (int round = 0; round < 2; round++) {
+                long expected = delegate.parseInteger(text);
+                assertEquals(expected, parser.parseInteger(text), text);
+                assertEquals(expected != IntegerParser.INVALID, parser.isInteger(text), text);
+            }
+        }
+        assertFalse(parser.isInteger(null));
+        assertEquals(IntegerParser.INVALID, parser.parseInteger(null));
+        // The longest token bypasses the cache, each of the others was computed once
+        assertEquals(8, parser.misses());
+        assertEquals(24, parser.hits());
+    }
+
+    @Test
+    void shouldStayWithinCapacity() {
+        var parser = new CachingIntegerParser(new ManualParsingIntegerChecker(), 100);
+        assertEquals(128, parser.capacity());
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, parser.parseInteger(String.valueOf(i)));
+        }
+        // Evicted tokens are recomputed, never answered wrongly
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, parser.parseInteger(String.valueOf(i)));
+        }
+        assertTrue(parser.hits() <= 128);
+    }
+
+    @Test
+    void shouldBeSafeUnderConcurrentUse() {
+        var parser = new CachingIntegerParser(new ManualParsingIntegerChecker(), 16);
+        var futures = IntStream.range(0, 8)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        int value = (i * 31 + thread) % 64;
+                        assertEquals(value, parser.parseInteger(String.valueOf(value)));
+                        assertFalse(parser.isInteger(value + "x"));
+                    }
+                }))
+                .toList();
+
+        futures.forEach(CompletableFuture::join);
+        assertEquals(8 * 100_000, parser.hits() + parser.misses());
+    }
+
+    @Test
+    void shouldRejectInvalidCapacity() {
+        assertThrows(
+                IllegalArgumentException.class, () -> new CachingIntegerParser(new ManualParsingIntegerChecker(), 0));
+        assertEquals(1, new CachingIntegerParser(new ManualParsingIntegerChecker(), 1).capacity());
+    }
+}
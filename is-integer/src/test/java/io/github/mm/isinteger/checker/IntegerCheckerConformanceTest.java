@@ -0,0 +1,127 @@
+package io.github.mm.isinteger.checker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.mm.isinteger.checker.impl.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class IntegerCheckerConformanceTest {
+
+    private static final int CORPUS_SIZE = 20000;
+    private static final String ASCII_ALPHABET = "0123456789000+-a. ";
+    // Arabic-Indic, Devanagari and fullwidth digits, a non-digit letter and U+2212 MINUS SIGN
+    private static final String MIXED_SCRIPT_ALPHABET = "0123456789+-\u0660\u0661\u0662\u0663\u0664\u0665\u0666"
+            + "\u0667\u0668\u0669\u0966\u0967\u0968\u0969\u096A\u096B\u096C\u096D\u096E\u096F"
+            + "\uFF10\uFF11\uFF12\uFF13\uFF14\uFF15\uFF16\uFF17\uFF18\uFF19\u00E9\u2212";
+    private static final char[] ASCII_ZEROS = {'0'};
+    private static final char[] MIXED_SCRIPT_ZEROS = {'0', '\u0660', '\u0966', '\uFF10'};
+
+    private static final List<IntegerChecker> asciiCheckers = List.of(
+            new TryCatchIntegerChecker(),
+            new RegexIntegerChecker(),
+            new ManualParsingIntegerChecker(),
+            new CharArrayIntegerChecker(),
+            new StreamIntegerChecker(),
+            new OptimizedTryCatchIntegerChecker(),
+            new ScannerIntegerChecker(),
+            new MatchesIntegerChecker(),
+            new CharAtIntegerChecker(),
+            new ApacheCommonsIntegerChecker(),
+            new SwarIntegerChecker(),
+            new VectorIntegerChecker(),
+            new ManualParsingRangeIntegerChecker(),
+            new RadixIntegerChecker(),
+            new CharacterDigitIntegerChecker(),
+            new UnicodeDigitIntegerChecker(),
+            new DfaIntegerChecker(),
+            new LengthSwitchIntegerChecker());
+
+    // Only these follow Integer.parseInt for non-ASCII digits, the others accept '0'-'9' alone
+    private static final List<IntegerChecker> unicodeCheckers = List.of(
+            new TryCatchIntegerChecker(),
+            new ApacheCommonsIntegerChecker(),
+            new CharacterDigitIntegerChecker(),
+            new UnicodeDigitIntegerChecker());
+
+    static Stream<Arguments> asciiCheckerProvider() {
+        return asciiCheckers.stream().map(Arguments::of);
+    }
+
+    static Stream<Arguments> unicodeCheckerProvider() {
+        return unicodeCheckers.stream().map(Arguments::of);
+    }
+
+    @ParameterizedTest
+    @MethodSource("asciiCheckerProvider")
+    void shouldMatchParseIntOnAsciiCorpus(IntegerChecker checker) {
+        for (String text : asciiCorpus()) {
+            assertEquals(parsesAsInt(text), checker.isInteger(text), () -> "\"" + text + "\"");
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("unicodeCheckerProvider")
+    void shouldMatchParseIntOnMixedScriptCorpus(IntegerChecker checker) {
+        for (String text : corpus(MIXED_SCRIPT_ALPHABET, MIXED_SCRIPT_ZEROS)) {
+            assertEquals(parsesAsInt(text), checker.isInteger(text), () -> escape(text));
+        }
+    }
+
+    // Shared with IntegerParserTest
+    static List<String> asciiCorpus() {
+        return corpus(ASCII_ALPHABET, ASCII_ZEROS);
+    }
+
+    private static List<String> corpus(String alphabet, char[] zeros) {
+        var random = new Random(42);
+        var corpus = new ArrayList<String>(CORPUS_SIZE);
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            if (i % 2 == 0) {
+                // Around the int range, so the overflow checks are exercised as often as the char checks
+                String value = String.valueOf(random.nextLong() >> random.nextInt(40));
+                corpus.add(i % 4 == 0 ? value : transliterate(value, zeros, random));
+            } else {
+                var text = new StringBuilder();
+                int length = 1 + random.nextInt(13);
+                for (int k = 0; k < length; k++) {
+                    text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                corpus.add(text.toString());
+            }
+        }
+        return corpus;
+    }
+
+    private static String transliterate(String value, char[] zeros, Random random) {
+        // Every script used here encodes its digits contiguously from its zero
+        var text = new StringBuilder(value);
+        for (int k = 0; k < text.length(); k++) {
+            char c = text.charAt(k);
+            if (c >= '0' && c <= '9') {
+                text.setCharAt(k, (char) (zeros[random.nextInt(zeros.length)] + (c - '0')));
+            }
+        }
+        return text.toString();
+    }
+
+    private static String escape(String text) {
+        var escaped = new StringBuilder();
+        text.chars().forEach(c -> escaped.append(c < 0x80 ? String.valueOf((char) c) : "\\u%04X".formatted(c)));
+        return escaped.toString();
+    }
+
+    private static boolean parsesAsInt(String text) {
+        try {
+            Integer.parseInt(text);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -3,8 +3,10 @@ package io.github.mm.isinteger.checker;
 import static org.junit.jupiter.api.Assertions.*;
 
 import io.github.mm.isinteger.checker.impl.*;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -21,7 +23,17 @@ class IntegerCheckerTest {
             new ScannerIntegerChecker(),
             new MatchesIntegerChecker(),
             new CharAtIntegerChecker(),
-            new ApacheCommonsIntegerChecker());
+            new ApacheCommonsIntegerChecker(),
+            new SwarIntegerChecker(),
+            new VectorIntegerChecker(),
+            new ManualParsingRangeIntegerChecker(),
+            new RadixIntegerChecker(),
+            new CharacterDigitIntegerChecker(),
+            new UnicodeDigitIntegerChecker(),
+            new DfaIntegerChecker(),
+            new CachingIntegerChecker(new ManualParsingIntegerChecker()),
+            new CachingIntegerParser(new ManualParsingIntegerChecker()),
+            new LengthSwitchIntegerChecker());
 
     static Stream<Arguments> integerCheckerProvider() {
         return checkers.stream().map(Arguments::of);
@@ -78,6 +90,12 @@ class IntegerCheckerTest {
         assertTrue(checker.isInteger("+0"));
         assertTrue(checker.isInteger("00000"));
         assertTrue(checker.isInteger("000123"));
+        assertTrue(checker.isInteger("000000000002147483647"));
+        assertTrue(checker.isInteger("-000000000002147483648"));
+        assertFalse(checker.isInteger("000000000002147483648"));
+        assertFalse(checker.isInteger("99999999999"));
+        assertFalse(checker.isInteger("-12345678901"));
+        assertTrue(checker.isInteger("+00000000000000000001"));
     }
 
     @ParameterizedTest
@@ -105,4 +123,55 @@ class IntegerCheckerTest {
         assertFalse(checker.isInteger("12-34"));
         assertFalse(checker.isInteger("12+34"));
     }
+
+    @Test
+    void vectorBatchShouldMatchSingleChecks() {
+        var checker = new VectorIntegerChecker();
+        String[] texts = {"0", "-2147483648", "2147483648", null, "", "12a", "+0000000000000042", "123456789012"};
+
+        boolean[] stringResults = new boolean[texts.length];
+        checker.checkAll(texts, stringResults);
+
+        var column = new StringBuilder();
+        int[] offsets = new int[texts.length];
+        int[] lengths = new int[texts.length];
+        for (int i = 0; i < texts.length; i++) {
+            String text = texts[i] == null ? "" : texts[i];
+            offsets[i] = column.length();
+            lengths[i] = text.length();
+            column.append(text);
+        }
+        boolean[] columnResults = new boolean[texts.length];
+        checker.checkAll(column.toString().getBytes(StandardCharsets.ISO_8859_1), offsets, lengths, columnResults);
+
+        for (int i = 0; i < texts.length; i++) {
+            assertEquals(checker.isInteger(texts[i]), stringResults[i], "String batch, index " + i);
+            assertEquals(checker.isInteger(texts[i]), columnResults[i], "Packed column, index " + i);
+        }
+    }
+
+    @Test
+    void characterDigitShouldMatchParseIntOnUnicodeDigits() {
+        var checker = new CharacterDigitIntegerChecker();
+        // Arabic-Indic, Devanagari and fullwidth digits are all accepted by Integer.parseInt
+        for (var text : List.of(
+                "\u0661\u0662\u0663",
+                "-\u0967\u0968",
+                "+\uFF11\uFF10",
+                "\u0662\u0661\u0664\u0667\u0664\u0668\u0663\u0666\u0664\u0668")) {
+            assertEquals(parsesAsInt(text), checker.isInteger(text), text);
+        }
+        assertTrue(checker.isInteger("\u0661\u0662\u0663"));
+        assertFalse(checker.isInteger("\u0662\u0661\u0664\u0667\u0664\u0668\u0663\u0666\u0664\u0668"));
+        assertFalse(checker.isInteger("\u22121")); // U+2212 MINUS SIGN is not a sign for parseInt
+    }
+
+    private static boolean parsesAsInt(String text) {
+        try {
+            Integer.parseInt(text);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,57 @@
+package io.github.mm.isinteger.checker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.mm.isinteger.checker.impl.*;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class IntegerParserTest {
+
+    private static final List<IntegerParser> parsers = List.of(
+            new ManualParsingIntegerChecker(),
+            new CharAtIntegerChecker(),
+            new CachingIntegerParser(new ManualParsingIntegerChecker()));
+
+    static Stream<Arguments> integerParserProvider() {
+        return parsers.stream().map(Arguments::of);
+    }
+
+    @ParameterizedTest
+    @MethodSource("integerParserProvider")
+    void shouldReturnParsedValue(IntegerParser parser) {
+        for (var text : List.of("0", "-0", "+0", "7", "007", "+123", "-456", "2147483647", "-2147483648")) {
+            assertEquals(Integer.parseInt(text), parser.parseInteger(text), text);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("integerParserProvider")
+    void shouldReturnSentinelForInvalidInput(IntegerParser parser) {
+        assertEquals(IntegerParser.INVALID, parser.parseInteger(null));
+        for (var text : List.of("", " ", "+", "-", "12a", "1e10", " 1", "1 ", "2147483648", "-2147483649")) {
+            assertEquals(IntegerParser.INVALID, parser.parseInteger(text), text);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("integerParserProvider")
+    void shouldMatchParseIntOnAsciiCorpus(IntegerParser parser) {
+        for (String text : IntegerCheckerConformanceTest.asciiCorpus()) {
+            long expected = parseIntOrInvalid(text);
+            assertEquals(expected, parser.parseInteger(text), () -> "\"" + text + "\"");
+            assertEquals(expected != IntegerParser.INVALID, parser.isInteger(text), () -> "\"" + text + "\"");
+        }
+    }
+
+    private static long parseIntOrInvalid(String text) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            return IntegerParser.INVALID;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.mm.isinteger.checker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.mm.isinteger.checker.impl.ManualParsingIntegerChecker;
+import io.github.mm.isinteger.checker.impl.ManualParsingRangeIntegerChecker;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class IntegerRangeCheckerTest {
+    private static final List<String> FIELDS = List.of(
+            "0",
+            "-0",
+            "+7",
+            "007",
+            "2147483647",
+            "-2147483648",
+            "2147483648",
+            "-2147483649",
+            "",
+            "+",
+            "-",
+            "12a",
+            " 1",
+            "1 ",
+            "1e3",
+            "12.5",
+            "9999999999");
+
+    private final IntegerRangeChecker checker = new ManualParsingRangeIntegerChecker();
+    private final IntegerChecker reference = new ManualParsingIntegerChecker();
+
+    @Test
+    void shouldMatchStringCheckerOnEveryRange() {
+        var packed = new StringBuilder("#");
+        int[] offsets = new int[FIELDS.size()];
+        int[] lengths = new int[FIELDS.size()];
+        for (int i = 0; i < FIELDS.size(); i++) {
+            offsets[i] = packed.length();
+            lengths[i] = FIELDS.get(i).length();
+            packed.append(FIELDS.get(i)).append(',');
+        }
+        byte[] bytes = packed.toString().getBytes(StandardCharsets.ISO_8859_1);
+        var heap = ByteBuffer.wrap(bytes);
+        var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+        for (int i = 0; i < FIELDS.size(); i++) {
+            boolean expected = reference.isInteger(FIELDS.get(i));
+            String message = "'" + FIELDS.get(i) + "'";
+            assertEquals(expected, checker.isInteger(bytes, offsets[i], lengths[i]), message);
+            assertEquals(expected, checker.isInteger(heap, offsets[i], lengths[i]), message);
+            assertEquals(expected, checker.isInteger(direct, offsets[i], lengths[i]), message);
+            assertEquals(expected, checker.isInteger(packed, offsets[i], lengths[i]), message);
+        }
+        assertEquals(0, direct.position());
+    }
+
+    @Test
+    void checkAllShouldFillMaskAcrossWords() {
+        int count = 130;
+        var packed = new StringBuilder();
+        int[] offsets = new int[count];
+        int[] lengths = new int[count];
+        for (int i = 0; i < count; i++) {
+            String field = i % 3 == 0 ? "x" + i : String.valueOf(i);
+            offsets[i] = packed.length();
+            lengths[i] = field.length();
+            packed.append(field);
+        }
+        long[] mask = {-1L, -1L, -1L};
+
+        checker.checkAll(packed.toString().getBytes(StandardCharsets.ISO_8859_1), offsets, lengths, mask);
+
+        for (int i = 0; i < count; i++) {
+            assertEquals(i % 3 != 0, (mask[i >>> 6] & (1L << i)) != 0, "field " + i);
+        }
+        assertEquals(0, mask[2] >>> (count - 128), "bits past the last field must be cleared");
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.mm.isinteger.checker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.mm.isinteger.checker.impl.RadixIntegerChecker;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RadixIntegerCheckerTest {
+
+    @Test
+    void shouldValidateLongRange() {
+        var checker = new RadixIntegerChecker(64, 10);
+
+        assertTrue(checker.isInteger(String.valueOf(Long.MAX_VALUE)));
+        assertTrue(checker.isInteger(String.valueOf(Long.MIN_VALUE)));
+        assertTrue(checker.isInteger("2147483648"));
+        assertFalse(checker.isInteger("9223372036854775808"));
+        assertFalse(checker.isInteger("-9223372036854775809"));
+        assertFalse(checker.isInteger("12a"));
+    }
+
+    @Test
+    void shouldValidateHexInBothCases() {
+        var checker = new RadixIntegerChecker(64, 16);
+
+        assertTrue(checker.isInteger("7fffffffffffffff"));
+        assertTrue(checker.isInteger("-8000000000000000"));
+        assertTrue(checker.isInteger("+DeadBeef"));
+        assertFalse(checker.isInteger("8000000000000000"));
+        assertFalse(checker.isInteger("0x1f"));
+        assertFalse(checker.isInteger("1g"));
+    }
+
+    @Test
+    void shouldRejectUnsupportedConfigurations() {
+        assertThrows(IllegalArgumentException.class, () -> new RadixIntegerChecker(16, 10));
+        assertThrows(IllegalArgumentException.class, () -> new RadixIntegerChecker(32, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RadixIntegerChecker(64, 37));
+    }
+
+    @Test
+    void shouldAgreeWithParseLongForEveryRadix() {
+        var random = new Random(42);
+        for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++) {
+            var intChecker = new RadixIntegerChecker(32, radix);
+            var longChecker = new RadixIntegerChecker(64, radix);
+            for (int i = 0; i < 2000; i++) {
+                long value = random.nextLong() >> random.nextInt(64);
+                String text = Long.toString(value, radix);
+                if (i % 4 == 0) {
+                    text = "00" + text.substring(0, text.length() - 1) + Character.forDigit(random.nextInt(36), 36);
+                }
+                assertEquals(parses(text, radix, true), intChecker.isInteger(text), text + " in radix " + radix);
+                assertEquals(parses(text, radix, false), longChecker.isInteger(text), text + " in radix " + radix);
+            }
+        }
+    }
+
+    private static boolean parses(String text, int radix, boolean asInt) {
+        try {
+            if (asInt) {
+                Integer.parseInt(text, radix);
+            } else {
+                Long.parseLong(text, radix);
+            }
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.mm.isinteger.dfa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class DfaTest {
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "^[+-]?\\d+$",
+                "[+-]?0*\\d{1,10}",
+                "\\d{3}-\\d{4}",
+                "[0-9a-fA-F]{2,}",
+                "a*b?c+",
+                "x{0}y{2}",
+                "\\+?[1-9]\\d*",
+                "[-+.]\\.\\d{0,3}"
+            })
+    void shouldAgreeWithJavaRegex(String pattern) {
+        var dfa = Dfa.compile(pattern);
+        var regex = Pattern.compile(pattern);
+        var alphabet = "0123456789abcfxyAF+-.- ";
+        var random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            var text = new StringBuilder();
+            int length = random.nextInt(14);
+            for (int k = 0; k < length; k++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertEquals(regex.matcher(text).matches(), dfa.matches(text), pattern + " on \"" + text + "\"");
+        }
+    }
+
+    @Test
+    void shouldMatchWholeInputOnly() {
+        var dfa = Dfa.compile("[+-]?\\d{1,3}");
+
+        assertTrue(dfa.matches("-123"));
+        assertTrue(dfa.matches("7"));
+        assertFalse(dfa.matches(""));
+        assertFalse(dfa.matches("1234"));
+        assertFalse(dfa.matches("12 "));
+        assertFalse(dfa.matches("\u0661"));
+    }
+
+    @Test
+    void shouldMergeEquivalentChars() {
+        // Digits, signs and everything else are the only distinct columns; states stay linear in the bound
+        var dfa = Dfa.compile("[+-]?\\d{1,10}");
+
+        assertEquals(13, dfa.stateCount());
+    }
+
+    @Test
+    void shouldRejectUnsupportedSyntax() {
+        assertThrows(IllegalArgumentException.class, () -> Dfa.compile("(ab)+"));
+        assertThrows(IllegalArgumentException.class, () -> Dfa.compile("a|b"));
+        assertThrows(IllegalArgumentException.class, () -> Dfa.compile("[^0-9]"));
+        assertThrows(IllegalArgumentException.class, () -> Dfa.compile("\\w+"));
+        assertThrows(IllegalArgumentException.class, () -> Dfa.compile("[0-9"));
+        assertThrows(IllegalArgumentException.class, () -> Dfa.compile("a{3,1}"));
+        assertThrows(IllegalArgumentException.class, () -> Dfa.compile("*a"));
+        assertThrows(IllegalArgumentException.class, () -> Dfa.compile("\\d{1,200}"));
+    }
+}
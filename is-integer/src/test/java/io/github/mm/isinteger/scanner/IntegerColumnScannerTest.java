@@ -0,0 +1,68 @@
+package io.github.mm.isinteger.scanner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IntegerColumnScannerTest {
+    private static final String CONTENT = "a,1,x\n" // 0
+            + "b,-2147483648,y\r\n" // 6
+            + "c,12z,z\n" // 23
+            + "d\n" // 31
+            + "e,2147483648\n" // 33
+            + "f,+7,w\n" // 46
+            + "g,42"; // 53, no trailing newline
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldCountRowsAndReportFirstInvalidOffsets() throws IOException {
+        var file = write(CONTENT);
+
+        var result = new IntegerColumnScanner(1, ',').scan(file);
+
+        assertEquals(7, result.rows());
+        assertEquals(3, result.invalidRows());
+        assertEquals(4, result.validRows());
+        assertArrayEquals(new long[] {25, 31, 35}, result.firstInvalidOffsets());
+    }
+
+    @Test
+    void shouldGiveSameResultAcrossLineAlignedSplits() throws IOException {
+        var file = write(CONTENT);
+        var expected = new IntegerColumnScanner(1, ',').scan(file);
+
+        for (int splitSize = 1; splitSize <= CONTENT.length(); splitSize++) {
+            var result = new IntegerColumnScanner(1, ',', 16, splitSize, ForkJoinPool.commonPool()).scan(file);
+            assertEquals(expected.rows(), result.rows(), "split size " + splitSize);
+            assertEquals(expected.invalidRows(), result.invalidRows(), "split size " + splitSize);
+            assertArrayEquals(expected.firstInvalidOffsets(), result.firstInvalidOffsets(), "split size " + splitSize);
+        }
+    }
+
+    @Test
+    void shouldCapReportedOffsets() throws IOException {
+        var file = write(CONTENT);
+
+        var result = new IntegerColumnScanner(1, ',', 2, 8, ForkJoinPool.commonPool()).scan(file);
+
+        assertEquals(3, result.invalidRows());
+        assertArrayEquals(new long[] {25, 31}, result.firstInvalidOffsets());
+    }
+
+    @Test
+    void shouldHandleFirstColumnAndEmptyFile() throws IOException {
+        assertTrue(new IntegerColumnScanner(0, ';').scan(write("1;a\n-2;b\n")).allValid());
+        assertEquals(0, new IntegerColumnScanner(0, ';').scan(write("")).rows());
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(tempDir, "column", ".csv"), content);
+    }
+}
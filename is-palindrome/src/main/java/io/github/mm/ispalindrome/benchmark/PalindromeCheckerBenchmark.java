@@ -1,5 +1,7 @@
 package io.github.mm.ispalindrome.benchmark;
 
+import io.github.mm.bench.AllocationProfile;
+import io.github.mm.bench.ZeroAllocation;
 import io.github.mm.ispalindrome.checker.impl.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -7,14 +9,13 @@ import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
-import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Benchmark)
-@Fork(value = 2, warmups = 1)
+@Fork(value = 2, warmups = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
 @Warmup(iterations = 3, time = 1)
 @Measurement(iterations = 5, time = 1)
 public class PalindromeCheckerBenchmark {
@@ -37,6 +38,37 @@ public class PalindromeCheckerBenchmark {
     private HalfStringPalindromeChecker halfStringChecker;
     private StreamPalindromeChecker streamChecker;
     private CharArrayPalindromeChecker charArrayChecker;
+    private NormalizingPalindromeChecker normalizingChecker;
+    private VectorPalindromeChecker vectorChecker;
+    private SwarPalindromeChecker swarChecker;
+
+    /**
+     * Palindromes from 1 KB to 1 MB, intact or with one char changed next to the middle, so every checker has to
+     * compare the whole string either way.
+     */
+    @State(Scope.Benchmark)
+    public static class LargeDataset {
+        @Param({"1024", "65536", "1048576"})
+        public int length;
+
+        @Param({"palindrome", "middleMismatch"})
+        public String kind;
+
+        private String text;
+
+        @Setup
+        public void setup() {
+            var random = new Random(42);
+            var chars = new char[length];
+            for (var i = 0; i < length / 2; i++) {
+                chars[i] = chars[length - 1 - i] = (char) ('a' + random.nextInt(26));
+            }
+            if (kind.equals("middleMismatch")) {
+                chars[length / 2 - 1] = chars[length / 2 - 1] == 'z' ? 'y' : 'z';
+            }
+            text = new String(chars);
+        }
+    }
 
     @Setup
     public void setup() {
@@ -47,6 +79,9 @@ public class PalindromeCheckerBenchmark {
         halfStringChecker = new HalfStringPalindromeChecker();
         streamChecker = new StreamPalindromeChecker();
         charArrayChecker = new CharArrayPalindromeChecker();
+        normalizingChecker = new NormalizingPalindromeChecker();
+        vectorChecker = new VectorPalindromeChecker();
+        swarChecker = new SwarPalindromeChecker();
 
         shortPalindromes = new ArrayList<>(DATASET_SIZE);
         shortNonPalindromes = new ArrayList<>(DATASET_SIZE);
@@ -78,8 +113,7 @@ public class PalindromeCheckerBenchmark {
         }
         String half = sb.toString();
         String firstHalf = half.substring(0, halfLength);
-        return firstHalf + (length % 2 == 1 ? half.charAt(halfLength) : "")
-                + new StringBuilder(firstHalf).reverse();
+        return firstHalf + (length % 2 == 1 ? half.charAt(halfLength) : "") + new StringBuilder(firstHalf).reverse();
     }
 
     private String generateNonPalindrome(int length) {
@@ -112,31 +146,37 @@ public class PalindromeCheckerBenchmark {
     }
 
     @Benchmark
+    @ZeroAllocation
     public void twoPointer_shortPalindrome(Blackhole blackhole) {
         blackhole.consume(twoPointerChecker.isPalindrome(getNext(shortPalindromes)));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void twoPointer_shortNonPalindrome(Blackhole blackhole) {
         blackhole.consume(twoPointerChecker.isPalindrome(getNext(shortNonPalindromes)));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void twoPointer_mediumPalindrome(Blackhole blackhole) {
         blackhole.consume(twoPointerChecker.isPalindrome(getNext(mediumPalindromes)));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void twoPointer_mediumNonPalindrome(Blackhole blackhole) {
         blackhole.consume(twoPointerChecker.isPalindrome(getNext(mediumNonPalindromes)));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void twoPointer_longPalindrome(Blackhole blackhole) {
         blackhole.consume(twoPointerChecker.isPalindrome(getNext(longPalindromes)));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void twoPointer_longNonPalindrome(Blackhole blackhole) {
         blackhole.consume(twoPointerChecker.isPalindrome(getNext(longNonPalindromes)));
     }
@@ -177,51 +217,67 @@ public class PalindromeCheckerBenchmark {
     }
 
     @Benchmark
+    @ZeroAllocation
+    public void normalizing_phrases(Blackhole blackhole) {
+        blackhole.consume(normalizingChecker.isPalindrome(getNext(phrasesWithSpaces)));
+    }
+
+    @Benchmark
+    @ZeroAllocation
     public void recursive_shortPalindrome(Blackhole blackhole) {
         blackhole.consume(recursiveChecker.isPalindrome(getNext(shortPalindromes)));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void recursive_shortNonPalindrome(Blackhole blackhole) {
         blackhole.consume(recursiveChecker.isPalindrome(getNext(shortNonPalindromes)));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void recursive_mediumPalindrome(Blackhole blackhole) {
         blackhole.consume(recursiveChecker.isPalindrome(getNext(mediumPalindromes)));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void recursive_mediumNonPalindrome(Blackhole blackhole) {
         blackhole.consume(recursiveChecker.isPalindrome(getNext(mediumNonPalindromes)));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void halfString_shortPalindrome(Blackhole blackhole) {
         blackhole.consume(halfStringChecker.isPalindrome(getNext(shortPalindromes)));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void halfString_shortNonPalindrome(Blackhole blackhole) {
         blackhole.consume(halfStringChecker.isPalindrome(getNext(shortNonPalindromes)));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void halfString_mediumPalindrome(Blackhole blackhole) {
         blackhole.consume(halfStringChecker.isPalindrome(getNext(mediumPalindromes)));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void halfString_mediumNonPalindrome(Blackhole blackhole) {
         blackhole.consume(halfStringChecker.isPalindrome(getNext(mediumNonPalindromes)));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void halfString_longPalindrome(Blackhole blackhole) {
         blackhole.consume(halfStringChecker.isPalindrome(getNext(longPalindromes)));
     }
 
     @Benchmark
+    @ZeroAllocation
     public void halfString_longNonPalindrome(Blackhole blackhole) {
         blackhole.consume(halfStringChecker.isPalindrome(getNext(longNonPalindromes)));
     }
@@ -286,10 +342,106 @@ public class PalindromeCheckerBenchmark {
         blackhole.consume(charArrayChecker.isPalindrome(getNext(longNonPalindromes)));
     }
 
+    @Benchmark
+    @ZeroAllocation
+    public void vector_shortPalindrome(Blackhole blackhole) {
+        blackhole.consume(vectorChecker.isPalindrome(getNext(shortPalindromes)));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void vector_shortNonPalindrome(Blackhole blackhole) {
+        blackhole.consume(vectorChecker.isPalindrome(getNext(shortNonPalindromes)));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void vector_mediumPalindrome(Blackhole blackhole) {
+        blackhole.consume(vectorChecker.isPalindrome(getNext(mediumPalindromes)));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void vector_mediumNonPalindrome(Blackhole blackhole) {
+        blackhole.consume(vectorChecker.isPalindrome(getNext(mediumNonPalindromes)));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void vector_longPalindrome(Blackhole blackhole) {
+        blackhole.consume(vectorChecker.isPalindrome(getNext(longPalindromes)));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void vector_longNonPalindrome(Blackhole blackhole) {
+        blackhole.consume(vectorChecker.isPalindrome(getNext(longNonPalindromes)));
+    }
+
+    // Not @ZeroAllocation: on millisecond-long operations JMH's own bookkeeping adds several bytes per op
+    @Benchmark
+    public void vector_large(LargeDataset dataset, Blackhole blackhole) {
+        blackhole.consume(vectorChecker.isPalindrome(dataset.text));
+    }
+
+    @Benchmark
+    public void twoPointer_large(LargeDataset dataset, Blackhole blackhole) {
+        blackhole.consume(twoPointerChecker.isPalindrome(dataset.text));
+    }
+
+    @Benchmark
+    public void halfString_large(LargeDataset dataset, Blackhole blackhole) {
+        blackhole.consume(halfStringChecker.isPalindrome(dataset.text));
+    }
+
+    @Benchmark
+    public void charArray_large(LargeDataset dataset, Blackhole blackhole) {
+        blackhole.consume(charArrayChecker.isPalindrome(dataset.text));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void swar_shortPalindrome(Blackhole blackhole) {
+        blackhole.consume(swarChecker.isPalindrome(getNext(shortPalindromes)));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void swar_shortNonPalindrome(Blackhole blackhole) {
+        blackhole.consume(swarChecker.isPalindrome(getNext(shortNonPalindromes)));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void swar_mediumPalindrome(Blackhole blackhole) {
+        blackhole.consume(swarChecker.isPalindrome(getNext(mediumPalindromes)));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void swar_mediumNonPalindrome(Blackhole blackhole) {
+        blackhole.consume(swarChecker.isPalindrome(getNext(mediumNonPalindromes)));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void swar_longPalindrome(Blackhole blackhole) {
+        blackhole.consume(swarChecker.isPalindrome(getNext(longPalindromes)));
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void swar_longNonPalindrome(Blackhole blackhole) {
+        blackhole.consume(swarChecker.isPalindrome(getNext(longNonPalindromes)));
+    }
+
+    @Benchmark
+    public void swar_large(LargeDataset dataset, Blackhole blackhole) {
+        blackhole.consume(swarChecker.isPalindrome(dataset.text));
+    }
+
     public static void main(String[] args) throws RunnerException {
-        var opt = new OptionsBuilder()
-                .include(PalindromeCheckerBenchmark.class.getSimpleName())
-                .build();
-        new Runner(opt).run();
+        var opt = new OptionsBuilder().include(PalindromeCheckerBenchmark.class.getSimpleName());
+        AllocationProfile.run(PalindromeCheckerBenchmark.class, opt, args);
     }
 }
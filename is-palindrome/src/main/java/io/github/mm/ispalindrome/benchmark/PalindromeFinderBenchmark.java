@@ -0,0 +1,124 @@
+package io.github.mm.ispalindrome.benchmark;
+
+import io.github.mm.bench.AllocationProfile;
+import io.github.mm.ispalindrome.finder.impl.ExpandAroundCenterPalindromeFinder;
+import io.github.mm.ispalindrome.finder.impl.ManacherPalindromeFinder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Longest palindromic substring and palindrome counts with Manacher's algorithm against expanding around every
+ * center. Allocation is reported with {@code --alloc} but not enforced: the operations take up to milliseconds,
+ * long enough for JMH's own bookkeeping to show up as several bytes per op.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, warmups = 1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PalindromeFinderBenchmark {
+    private ManacherPalindromeFinder manacherFinder;
+    private ExpandAroundCenterPalindromeFinder expandFinder;
+
+    /**
+     * Random text from 1 KB to 1 MB over a binary or a 26-letter alphabet. Palindromes stay short either way,
+     * longer and more frequent with two letters.
+     */
+    @State(Scope.Benchmark)
+    public static class TextDataset {
+        @Param({"1024", "65536", "1048576"})
+        public int length;
+
+        @Param({"2", "26"})
+        public int alphabet;
+
+        private String text;
+        private int[] radii;
+
+        @Setup
+        public void setup() {
+            var random = new Random(42);
+            var chars = new char[length];
+            for (var i = 0; i < length; i++) {
+                chars[i] = (char) ('a' + random.nextInt(alphabet));
+            }
+            text = new String(chars);
+            radii = new int[ManacherPalindromeFinder.radiiLength(length)];
+        }
+    }
+
+    /** A run of a single char, the worst case for expanding around centers, which turns quadratic on it. */
+    @State(Scope.Benchmark)
+    public static class RunDataset {
+        @Param({"1024", "16384"})
+        public int length;
+
+        private String text;
+
+        @Setup
+        public void setup() {
+            text = "a".repeat(length);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        manacherFinder = new ManacherPalindromeFinder();
+        expandFinder = new ExpandAroundCenterPalindromeFinder();
+    }
+
+    @Benchmark
+    public void manacherLongest_text(TextDataset dataset, Blackhole blackhole) {
+        blackhole.consume(manacherFinder.longestPalindrome(dataset.text));
+    }
+
+    @Benchmark
+    public void manacherLongestCallerBuffer_text(TextDataset dataset, Blackhole blackhole) {
+        blackhole.consume(manacherFinder.longestPalindrome(dataset.text, dataset.radii));
+    }
+
+    @Benchmark
+    public void manacherCount_text(TextDataset dataset, Blackhole blackhole) {
+        blackhole.consume(manacherFinder.countPalindromes(dataset.text));
+    }
+
+    @Benchmark
+    public void expandLongest_text(TextDataset dataset, Blackhole blackhole) {
+        blackhole.consume(expandFinder.longestPalindrome(dataset.text));
+    }
+
+    @Benchmark
+    public void expandCount_text(TextDataset dataset, Blackhole blackhole) {
+        blackhole.consume(expandFinder.countPalindromes(dataset.text));
+    }
+
+    @Benchmark
+    public void manacherLongest_run(RunDataset dataset, Blackhole blackhole) {
+        blackhole.consume(manacherFinder.longestPalindrome(dataset.text));
+    }
+
+    @Benchmark
+    public void manacherCount_run(RunDataset dataset, Blackhole blackhole) {
+        blackhole.consume(manacherFinder.countPalindromes(dataset.text));
+    }
+
+    @Benchmark
+    public void expandLongest_run(RunDataset dataset, Blackhole blackhole) {
+        blackhole.consume(expandFinder.longestPalindrome(dataset.text));
+    }
+
+    @Benchmark
+    public void expandCount_run(RunDataset dataset, Blackhole blackhole) {
+        blackhole.consume(expandFinder.countPalindromes(dataset.text));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        var opt = new OptionsBuilder().include(PalindromeFinderBenchmark.class.getSimpleName());
+        AllocationProfile.run(PalindromeFinderBenchmark.class, opt, args);
+    }
+}
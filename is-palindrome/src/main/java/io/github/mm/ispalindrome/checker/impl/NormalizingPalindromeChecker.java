@@ -0,0 +1,60 @@
+package io.github.mm.ispalindrome.checker.impl;
+
+import io.github.mm.ispalindrome.checker.PalindromeChecker;
+
+/**
+ * Same rules as {@link RegexPalindromeChecker}: only ASCII letters and digits count, letters ignore case, and a
+ * string without any of them is not a palindrome. Instead of building a cleaned, lowercased copy, two pointers
+ * skip the other chars and fold case through a lookup table as they go, so nothing is allocated.
+ */
+public class NormalizingPalindromeChecker implements PalindromeChecker {
+    // Lowercase form of each ASCII letter and digit, 0 for chars that are skipped
+    private static final byte[] FOLD = new byte[256];
+
+    static {
+        for (char c = '0'; c <= '9'; c++) {
+            FOLD[c] = (byte) c;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            FOLD[c] = (byte) c;
+            FOLD[Character.toUpperCase(c)] = (byte) c;
+        }
+    }
+
+    @Override
+    public boolean isPalindrome(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+
+        int left = 0;
+        int right = text.length() - 1;
+        boolean seenAlphanumeric = false;
+
+        while (true) {
+            byte l;
+            while ((l = fold(text.charAt(left))) == 0) {
+                if (++left > right) {
+                    return seenAlphanumeric;
+                }
+            }
+            // Stops at left at the latest, which holds a letter or digit
+            byte r;
+            while ((r = fold(text.charAt(right))) == 0) {
+                right--;
+            }
+
+            if (l != r) {
+                return false;
+            }
+            seenAlphanumeric = true;
+            if (++left > --right) {
+                return true;
+            }
+        }
+    }
+
+    private static byte fold(char c) {
+        return c < 256 ? FOLD[c] : 0;
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.mm.ispalindrome.checker.impl;
+
+import io.github.mm.ispalindrome.checker.PalindromeChecker;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compares eight chars per step without the Vector API. Both ends of the string are encoded as Latin-1 into
+ * per-thread byte buffers, in chunks that start at 256 chars and double, and read back as little-endian longs:
+ * the front long must equal the back one with its bytes reversed. The ISO-8859-1 encoder stops at the first
+ * char above U+00FF, so UTF-16 text, and the middle that doesn't fill two longs, is compared pair by pair.
+ *
+ * <p>The bytes are a copy made through public String methods, not the string's own array. An encoder call costs
+ * more than comparing a few dozen pairs, so strings under 256 chars are compared pair by pair from the start.
+ */
+public class SwarPalindromeChecker implements PalindromeChecker {
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final int MIN_LENGTH = 256;
+    private static final int FIRST_CHUNK = 256;
+    private static final int MAX_CHUNK = 4096;
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private static final class Scratch {
+        final CharsetEncoder latin1 = StandardCharsets.ISO_8859_1.newEncoder();
+        final char[] chars = new char[MAX_CHUNK];
+        final CharBuffer charView = CharBuffer.wrap(chars);
+        final byte[] front = new byte[MAX_CHUNK];
+        final byte[] back = new byte[MAX_CHUNK];
+        final ByteBuffer frontView = ByteBuffer.wrap(front);
+        final ByteBuffer backView = ByteBuffer.wrap(back);
+
+        /** Encodes {@code n} chars of the text into the target's array, false if one doesn't fit in a byte. */
+        boolean encode(String text, int from, int n, ByteBuffer target) {
+            text.getChars(from, from + n, chars, 0);
+            charView.clear().limit(n);
+            target.clear();
+            // Never at end of input, so the encoder needs no reset and stops at the first char it can't map
+            latin1.encode(charView, target, false);
+            return target.position() == n;
+        }
+    }
+
+    @Override
+    public boolean isPalindrome(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+
+        int left = 0;
+        int right = text.length() - 1;
+        // Most strings that aren't palindromes already differ at the ends
+        if (text.charAt(left) != text.charAt(right)) {
+            return false;
+        }
+
+        if (text.length() >= MIN_LENGTH) {
+            Scratch scratch = SCRATCH.get();
+            int chunk = FIRST_CHUNK;
+            while (right - left + 1 >= 2 * Long.BYTES) {
+                int n = Math.min(chunk, (right - left + 1) / 2) / Long.BYTES * Long.BYTES;
+                if (!scratch.encode(text, left, n, scratch.frontView)
+                        || !scratch.encode(text, right + 1 - n, n, scratch.backView)) {
+                    break;
+                }
+                for (int i = 0; i < n; i += Long.BYTES) {
+                    long front = (long) LONGS.get(scratch.front, i);
+                    long back = (long) LONGS.get(scratch.back, n - Long.BYTES - i);
+                    if (front != Long.reverseBytes(back)) {
+                        return false;
+                    }
+                }
+                left += n;
+                right -= n;
+                chunk = Math.min(chunk * 2, MAX_CHUNK);
+            }
+        }
+
+        int pairs = (right - left + 1) / 2;
+        for (int i = 0; i < pairs; i++) {
+            if (text.charAt(left + i) != text.charAt(right - i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
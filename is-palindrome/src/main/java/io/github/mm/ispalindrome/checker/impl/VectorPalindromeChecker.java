@@ -0,0 +1,68 @@
+package io.github.mm.ispalindrome.checker.impl;
+
+import io.github.mm.ispalindrome.checker.PalindromeChecker;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Compares a whole vector of chars from the front with one from the back per step, the back one reversed by a
+ * lane shuffle. Both ends are copied into per-thread buffers in chunks that start small and double, so a string
+ * that differs early is rejected before much of it is copied. The middle that doesn't fill two vectors is
+ * compared pair by pair.
+ */
+public class VectorPalindromeChecker implements PalindromeChecker {
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final VectorShuffle<Short> REVERSE = VectorShuffle.fromOp(SPECIES, i -> SPECIES.length() - 1 - i);
+    private static final int FIRST_CHUNK = 64;
+    private static final int MAX_CHUNK = 4096;
+    private static final ThreadLocal<char[][]> BUFFERS =
+            ThreadLocal.withInitial(() -> new char[][] {new char[MAX_CHUNK], new char[MAX_CHUNK]});
+
+    @Override
+    public boolean isPalindrome(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+
+        int left = 0;
+        int right = text.length() - 1;
+        // Most strings that aren't palindromes already differ at the ends
+        if (text.charAt(left) != text.charAt(right)) {
+            return false;
+        }
+
+        int lanes = SPECIES.length();
+        if (right - left + 1 >= 2 * lanes) {
+            char[][] buffers = BUFFERS.get();
+            char[] front = buffers[0];
+            char[] back = buffers[1];
+            int chunk = FIRST_CHUNK;
+            while (right - left + 1 >= 2 * lanes) {
+                int n = Math.min(chunk, (right - left + 1) / 2) / lanes * lanes;
+                text.getChars(left, left + n, front, 0);
+                text.getChars(right + 1 - n, right + 1, back, 0);
+                for (int i = 0; i < n; i += lanes) {
+                    ShortVector f = ShortVector.fromCharArray(SPECIES, front, i);
+                    ShortVector b = ShortVector.fromCharArray(SPECIES, back, n - lanes - i)
+                            .rearrange(REVERSE);
+                    if (!f.eq(b).allTrue()) {
+                        return false;
+                    }
+                }
+                left += n;
+                right -= n;
+                chunk = Math.min(chunk * 2, MAX_CHUNK);
+            }
+        }
+
+        // One counter instead of two pointers, as in HalfStringPalindromeChecker, which the JIT unrolls better
+        int pairs = (right - left + 1) / 2;
+        for (int i = 0; i < pairs; i++) {
+            if (text.charAt(left + i) != text.charAt(right - i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.mm.ispalindrome.finder;
+
+/**
+ * Finds palindromic substrings, with the same rules as {@link io.github.mm.ispalindrome.checker.PalindromeChecker}:
+ * chars are compared exactly, and every single char is a palindrome. Substrings are returned as a packed
+ * {@link #range(int, int) range} of offsets instead of a new string, so a call needs no allocation of its own.
+ */
+public interface PalindromeFinder {
+    /** Returned by {@link #longestPalindrome(String)} for null or empty text. */
+    long NOT_FOUND = -1;
+
+    /** Packs the half-open range {@code [start, end)} into one long. */
+    static long range(int start, int end) {
+        return (long) start << 32 | end;
+    }
+
+    /** First offset of a packed range. */
+    static int start(long range) {
+        return (int) (range >>> 32);
+    }
+
+    /** Offset just past the end of a packed range. */
+    static int end(long range) {
+        return (int) range;
+    }
+
+    /**
+     * @return the range of the longest palindromic substring, the leftmost one if there are several, or
+     *     {@link #NOT_FOUND} for null or empty text
+     */
+    long longestPalindrome(String text);
+
+    /**
+     * @return the number of non-empty palindromic substrings, counting each occurrence, 0 for null text
+     */
+    long countPalindromes(String text);
+}
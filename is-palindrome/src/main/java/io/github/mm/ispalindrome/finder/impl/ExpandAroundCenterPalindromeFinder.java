@@ -0,0 +1,56 @@
+package io.github.mm.ispalindrome.finder.impl;
+
+import io.github.mm.ispalindrome.finder.PalindromeFinder;
+
+/**
+ * Grows a palindrome outwards from each of the 2n - 1 centers, between chars and on them, until the ends differ.
+ * Close to linear on ordinary text, where most palindromes are short, but quadratic on repetitive text such as
+ * a run of one char.
+ */
+public class ExpandAroundCenterPalindromeFinder implements PalindromeFinder {
+
+    @Override
+    public long longestPalindrome(String text) {
+        if (text == null || text.isEmpty()) {
+            return NOT_FOUND;
+        }
+
+        int length = text.length();
+        int bestStart = 0;
+        int bestLength = 0;
+        // Even centers sit on char center / 2, odd ones between it and the next
+        for (int center = 0; center < 2 * length - 1; center++) {
+            int left = center / 2;
+            int right = left + (center & 1);
+            while (left >= 0 && right < length && text.charAt(left) == text.charAt(right)) {
+                left--;
+                right++;
+            }
+            if (right - left - 1 > bestLength) {
+                bestStart = left + 1;
+                bestLength = right - left - 1;
+            }
+        }
+        return PalindromeFinder.range(bestStart, bestStart + bestLength);
+    }
+
+    @Override
+    public long countPalindromes(String text) {
+        if (text == null) {
+            return 0;
+        }
+
+        int length = text.length();
+        long count = 0;
+        for (int center = 0; center < 2 * length - 1; center++) {
+            int left = center / 2;
+            int right = left + (center & 1);
+            while (left >= 0 && right < length && text.charAt(left) == text.charAt(right)) {
+                count++;
+                left--;
+                right++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.mm.ispalindrome.finder.impl;
+
+import io.github.mm.ispalindrome.finder.PalindromeFinder;
+
+/**
+ * Manacher's algorithm, linear in the length of the text. For every center it records how far the palindrome
+ * around it reaches. Inside the rightmost palindrome found so far, a center starts from the radius of its mirror
+ * image instead of from scratch, so every char is compared a bounded number of times.
+ *
+ * <p>The radii take {@link #radiiLength(int) two ints per char}. Callers can pass their own array, which then
+ * holds the radii after the call: the odd palindromes centered on char {@code i} at index {@code i}, and the
+ * even ones centered just before char {@code i} at index {@code length + i}. Otherwise a per-thread array is
+ * used, which grows to the longest text seen on that thread and is kept.
+ */
+public class ManacherPalindromeFinder implements PalindromeFinder {
+    private static final ThreadLocal<int[]> RADII = ThreadLocal.withInitial(() -> new int[0]);
+
+    /** Number of ints the radii of a text of the given length take. */
+    public static int radiiLength(int textLength) {
+        return 2 * textLength;
+    }
+
+    @Override
+    public long longestPalindrome(String text) {
+        if (text == null || text.isEmpty()) {
+            return NOT_FOUND;
+        }
+        return longestPalindrome(text, radiiFor(text.length()));
+    }
+
+    /**
+     * @param radii receives the radii, at least {@link #radiiLength(int) radiiLength(text.length())} long
+     * @throws IllegalArgumentException if {@code radii} is too short
+     */
+    public long longestPalindrome(String text, int[] radii) {
+        if (text == null || text.isEmpty()) {
+            return NOT_FOUND;
+        }
+        int length = text.length();
+        checkCapacity(length, radii);
+        computeRadii(text, radii);
+
+        int bestStart = 0;
+        int bestLength = 0;
+        for (int i = 0; i < length; i++) {
+            int odd = radii[i];
+            int even = radii[length + i];
+            // Only palindromes of the same parity can be equally long, and of those the first center starts first
+            if (2 * even > bestLength) {
+                bestStart = i - even;
+                bestLength = 2 * even;
+            }
+            if (2 * odd - 1 > bestLength) {
+                bestStart = i - odd + 1;
+                bestLength = 2 * odd - 1;
+            }
+        }
+        return PalindromeFinder.range(bestStart, bestStart + bestLength);
+    }
+
+    @Override
+    public long countPalindromes(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return countPalindromes(text, radiiFor(text.length()));
+    }
+
+    /**
+     * @param radii receives the radii, at least {@link #radiiLength(int) radiiLength(text.length())} long
+     * @throws IllegalArgumentException if {@code radii} is too short
+     */
+    public long countPalindromes(String text, int[] radii) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int length = text.length();
+        checkCapacity(length, radii);
+        computeRadii(text, radii);
+
+        // A palindrome of radius r contains r palindromes around the same center
+        long count = 0;
+        for (int i = 0; i < radiiLength(length); i++) {
+            count += radii[i];
+        }
+        return count;
+    }
+
+    private static void computeRadii(String text, int[] radii) {
+        int length = text.length();
+
+        // Odd palindromes: radii[i] counts the center, the longest one around char i is 2 * radii[i] - 1 long
+        for (int i = 0, left = 0, right = -1; i < length; i++) {
+            int k = i > right ? 1 : Math.min(radii[left + right - i], right - i + 1);
+            while (i - k >= 0 && i + k < length && text.charAt(i - k) == text.charAt(i + k)) {
+                k++;
+            }
+            radii[i] = k;
+            if (i + k - 1 > right) {
+                left = i - k + 1;
+                right = i + k - 1;
+            }
+        }
+
+        // Even palindromes: the longest one ending just before char i + radii[length + i] is 2 * that long
+        for (int i = 0, left = 0, right = -1; i < length; i++) {
+            int k = i > right ? 0 : Math.min(radii[length + left + right - i + 1], right - i + 1);
+            while (i - k - 1 >= 0 && i + k < length && text.charAt(i - k - 1) == text.charAt(i + k)) {
+                k++;
+            }
+            radii[length + i] = k;
+            if (i + k - 1 > right) {
+                left = i - k;
+                right = i + k - 1;
+            }
+        }
+    }
+
+    private static int[] radiiFor(int length) {
+        int[] radii = RADII.get();
+        if (radii.length < radiiLength(length)) {
+            radii = new int[radiiLength(length)];
+            RADII.set(radii);
+        }
+        return radii;
+    }
+
+    private static void checkCapacity(int length, int[] radii) {
+        if (radii.length < radiiLength(length)) {
+            throw new IllegalArgumentException(
+                    "Radii need " + radiiLength(length) + " ints for " + length + " chars: " + radii.length);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import io.github.mm.ispalindrome.checker.impl.*;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Stream;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -17,10 +18,12 @@ class PalindromeCheckerTest {
             new RecursivePalindromeChecker(),
             new HalfStringPalindromeChecker(),
             new StreamPalindromeChecker(),
-            new CharArrayPalindromeChecker());
+            new CharArrayPalindromeChecker(),
+            new VectorPalindromeChecker(),
+            new SwarPalindromeChecker());
 
     private static final List<PalindromeChecker> regexCheckers =
-            List.of(new RegexPalindromeChecker());
+            List.of(new RegexPalindromeChecker(), new NormalizingPalindromeChecker());
 
     static Stream<Arguments> palindromeCheckerProvider() {
         return checkers.stream().map(Arguments::of);
@@ -71,6 +74,58 @@ class PalindromeCheckerTest {
         assertFalse(checker.isPalindrome("abcdefghijklmnopqponmlkjihgfedcbx"));
     }
 
+    @ParameterizedTest
+    @MethodSource("palindromeCheckerProvider")
+    void shouldFindMismatchAnywhere(PalindromeChecker checker) {
+        // Long enough to cross vector, tail and chunk boundaries
+        var random = new Random(42);
+        for (var length : new int[] {31, 32, 33, 64, 127, 128, 129, 300, 301}) {
+            var chars = new char[length];
+            for (int i = 0; i < length / 2; i++) {
+                chars[i] = chars[length - 1 - i] = (char) ('a' + random.nextInt(26));
+            }
+            if (length % 2 == 1) {
+                chars[length / 2] = 'm';
+            }
+            assertTrue(checker.isPalindrome(new String(chars)), "length " + length);
+
+            for (int position = 0; position < length; position++) {
+                if (length % 2 == 1 && position == length / 2) {
+                    continue;
+                }
+                char original = chars[position];
+                chars[position] = 'Z';
+                assertFalse(checker.isPalindrome(new String(chars)), "length " + length + " at " + position);
+                chars[position] = original;
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("palindromeCheckerProvider")
+    void shouldCompareWholeChars(PalindromeChecker checker) {
+        // U+0161 has the same low byte as 'a', U+00E1 keeps the string Latin-1
+        assertTrue(checker.isPalindrome("\u0161bcdefghijklmnopqrstuvwxyzyxwvutsrqponmlkjihgfedcb\u0161"));
+        assertTrue(checker.isPalindrome("\u00e1bcdefghijklmnopqrstuvwxyzyxwvutsrqponmlkjihgfedcb\u00e1"));
+        assertFalse(checker.isPalindrome("\u0161bcdefghijklmnopqrstuvwxyzyxwvutsrqponmlkjihgfedcba"));
+        assertFalse(checker.isPalindrome("\u0161a"));
+
+        // Chars above U+00FF deep inside a long string, mirrored by a twin or by a char with the same low byte
+        var random = new Random(42);
+        var chars = new char[1000];
+        for (int i = 0; i < chars.length / 2; i++) {
+            chars[i] = chars[chars.length - 1 - i] = (char) ('a' + random.nextInt(26));
+        }
+        for (var position : new int[] {0, 255, 256, 300, 499}) {
+            char original = chars[position];
+            chars[position] = chars[chars.length - 1 - position] = '\u0161';
+            assertTrue(checker.isPalindrome(new String(chars)), "at " + position);
+            chars[chars.length - 1 - position] = 'a';
+            assertFalse(checker.isPalindrome(new String(chars)), "at " + position);
+            chars[position] = chars[chars.length - 1 - position] = original;
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("palindromeCheckerProvider")
     void shouldBeCaseSensitive(PalindromeChecker checker) {
@@ -132,4 +187,23 @@ class PalindromeCheckerTest {
         assertFalse(checker.isPalindrome("   "));
         assertFalse(checker.isPalindrome("@#$%"));
     }
+
+    @ParameterizedTest
+    @MethodSource("regexPalindromeCheckerProvider")
+    void regexShouldMatchCleanedCopy(PalindromeChecker checker) {
+        // Non-ASCII letters are skipped like punctuation, however they would case-fold
+        var alphabet = "aAbB1 ,.!\u00e9\u00c9\u212a\u0131";
+        var random = new Random(42);
+        for (int n = 0; n < 20000; n++) {
+            var half = new StringBuilder();
+            int length = random.nextInt(8);
+            for (int i = 0; i < length; i++) {
+                half.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            var text = random.nextBoolean() ? half.toString() + half.reverse() : half.toString();
+            var cleaned = text.replaceAll("[^a-zA-Z0-9]", "").toLowerCase();
+            var expected = !cleaned.isEmpty() && cleaned.contentEquals(new StringBuilder(cleaned).reverse());
+            assertEquals(expected, checker.isPalindrome(text), text);
+        }
+    }
 }
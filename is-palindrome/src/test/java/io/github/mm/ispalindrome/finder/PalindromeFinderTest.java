@@ -0,0 +1,134 @@
+package io.github.mm.ispalindrome.finder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.mm.ispalindrome.checker.impl.TwoPointerPalindromeChecker;
+import io.github.mm.ispalindrome.finder.impl.ExpandAroundCenterPalindromeFinder;
+import io.github.mm.ispalindrome.finder.impl.ManacherPalindromeFinder;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class PalindromeFinderTest {
+
+    static Stream<Arguments> palindromeFinderProvider() {
+        return Stream.of(
+                Arguments.of(new ManacherPalindromeFinder()), Arguments.of(new ExpandAroundCenterPalindromeFinder()));
+    }
+
+    private static String longest(PalindromeFinder finder, String text) {
+        long range = finder.longestPalindrome(text);
+        return text.substring(PalindromeFinder.start(range), PalindromeFinder.end(range));
+    }
+
+    @ParameterizedTest
+    @MethodSource("palindromeFinderProvider")
+    void shouldFindLongestPalindrome(PalindromeFinder finder) {
+        assertEquals("bab", longest(finder, "babad"));
+        assertEquals("bb", longest(finder, "cbbd"));
+        assertEquals("a", longest(finder, "a"));
+        assertEquals("a", longest(finder, "abc"));
+        assertEquals("racecar", longest(finder, "racecar"));
+        assertEquals("abccba", longest(finder, "xyzabccbaxy"));
+        assertEquals("aaaa", longest(finder, "baaaac"));
+        // Case-sensitive, and the leftmost of equally long palindromes wins
+        assertEquals("x", longest(finder, "xAay"));
+        assertEquals("aba", longest(finder, "abaABA"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("palindromeFinderProvider")
+    void shouldReturnOffsets(PalindromeFinder finder) {
+        long range = finder.longestPalindrome("xxabcbayy");
+        assertEquals(2, PalindromeFinder.start(range));
+        assertEquals(7, PalindromeFinder.end(range));
+        assertEquals(PalindromeFinder.range(2, 7), range);
+    }
+
+    @ParameterizedTest
+    @MethodSource("palindromeFinderProvider")
+    void shouldCountPalindromes(PalindromeFinder finder) {
+        assertEquals(3, finder.countPalindromes("abc"));
+        assertEquals(6, finder.countPalindromes("aaa"));
+        assertEquals(6, finder.countPalindromes("abba"));
+        assertEquals(1, finder.countPalindromes("x"));
+        assertEquals(0, finder.countPalindromes(""));
+        assertEquals(0, finder.countPalindromes(null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("palindromeFinderProvider")
+    void shouldRejectNullAndEmpty(PalindromeFinder finder) {
+        assertEquals(PalindromeFinder.NOT_FOUND, finder.longestPalindrome(null));
+        assertEquals(PalindromeFinder.NOT_FOUND, finder.longestPalindrome(""));
+    }
+
+    @ParameterizedTest
+    @MethodSource("palindromeFinderProvider")
+    void shouldMatchCheckingEverySubstring(PalindromeFinder finder) {
+        var checker = new TwoPointerPalindromeChecker();
+        var random = new Random(42);
+        for (int round = 0; round < 500; round++) {
+            var chars = new char[random.nextInt(40) + 1];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) ('a' + random.nextInt(round % 3 + 2));
+            }
+            var text = new String(chars);
+
+            long count = 0;
+            int bestStart = 0;
+            int bestLength = 0;
+            for (int start = 0; start < text.length(); start++) {
+                for (int end = start + 1; end <= text.length(); end++) {
+                    if (checker.isPalindrome(text.substring(start, end))) {
+                        count++;
+                        if (end - start > bestLength) {
+                            bestStart = start;
+                            bestLength = end - start;
+                        }
+                    }
+                }
+            }
+
+            assertEquals(count, finder.countPalindromes(text), text);
+            assertEquals(
+                    PalindromeFinder.range(bestStart, bestStart + bestLength), finder.longestPalindrome(text), text);
+        }
+    }
+
+    @Test
+    void manacherShouldUseCallerBuffer() {
+        var finder = new ManacherPalindromeFinder();
+        var radii = new int[ManacherPalindromeFinder.radiiLength(100)];
+
+        assertEquals(PalindromeFinder.range(1, 4), finder.longestPalindrome("xabay", radii));
+        assertArrayEquals(new int[] {1, 1, 2, 1, 1, 0, 0, 0, 0, 0}, Arrays.copyOf(radii, 10));
+        // A shorter text reuses the same array
+        assertEquals(6, finder.countPalindromes("aaa", radii));
+        assertEquals(PalindromeFinder.range(0, 100), finder.longestPalindrome("a".repeat(100), radii));
+    }
+
+    @Test
+    void manacherShouldRejectShortBuffer() {
+        var finder = new ManacherPalindromeFinder();
+        var radii = new int[ManacherPalindromeFinder.radiiLength(3)];
+
+        assertThrows(IllegalArgumentException.class, () -> finder.longestPalindrome("abcd", radii));
+        assertThrows(IllegalArgumentException.class, () -> finder.countPalindromes("abcd", radii));
+        assertEquals(PalindromeFinder.NOT_FOUND, finder.longestPalindrome("", new int[0]));
+    }
+
+    @Test
+    void manacherShouldHandleLongRuns() {
+        var finder = new ManacherPalindromeFinder();
+        int length = 100_000;
+        var text = "a".repeat(length);
+
+        assertEquals(PalindromeFinder.range(0, length), finder.longestPalindrome(text));
+        assertEquals((long) length * (length + 1) / 2, finder.countPalindromes(text));
+    }
+}
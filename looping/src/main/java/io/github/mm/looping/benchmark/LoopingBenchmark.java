@@ -1,5 +1,6 @@
 package io.github.mm.looping.benchmark;
 
+import io.github.mm.bench.AllocationProfile;
 import io.github.mm.looping.impl.*;
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -7,9 +8,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
-import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
-import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
@@ -117,7 +116,7 @@ public class LoopingBenchmark {
     }
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
+        var opt = new OptionsBuilder()
                 .include(LoopingBenchmark.class.getSimpleName())
                 .mode(Mode.AverageTime)
                 .timeUnit(TimeUnit.NANOSECONDS)
@@ -125,9 +124,8 @@ public class LoopingBenchmark {
                 .warmupIterations(3)
                 .warmupTime(TimeValue.seconds(1))
                 .measurementIterations(5)
-                .measurementTime(TimeValue.seconds(1))
-                .build();
+                .measurementTime(TimeValue.seconds(1));
 
-        new Runner(opt).run();
+        AllocationProfile.run(LoopingBenchmark.class, opt, args);
     }
 }
@@ -1,12 +1,11 @@
 package io.github.mm.uuid.benchmark;
 
+import io.github.mm.bench.AllocationProfile;
 import io.github.mm.uuid.impl.*;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
-import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
-import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
@@ -81,7 +80,7 @@ public class UUIDGenerationBenchmark {
     }
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
+        var opt = new OptionsBuilder()
                 .include(UUIDGenerationBenchmark.class.getSimpleName())
                 .mode(Mode.AverageTime)
                 .timeUnit(TimeUnit.NANOSECONDS)
@@ -89,9 +88,8 @@ public class UUIDGenerationBenchmark {
                 .warmupIterations(3)
                 .warmupTime(TimeValue.seconds(1))
                 .measurementIterations(5)
-                .measurementTime(TimeValue.seconds(1))
-                .build();
+                .measurementTime(TimeValue.seconds(1));
 
-        new Runner(opt).run();
+        AllocationProfile.run(UUIDGenerationBenchmark.class, opt, args);
     }
 }
@@ -0,0 +1,105 @@
+package io.github.mm.vowels.benchmark;
+
+import io.github.mm.bench.AllocationProfile;
+import io.github.mm.bench.ZeroAllocation;
+import io.github.mm.vowels.checker.BatchVowelChecker;
+import io.github.mm.vowels.checker.VowelChecker;
+import io.github.mm.vowels.checker.impl.CharArrayBatchVowelChecker;
+import io.github.mm.vowels.checker.impl.CharArrayVowelChecker;
+import io.github.mm.vowels.checker.impl.TrimFreeCharArrayVowelChecker;
+import io.github.mm.vowels.checker.impl.VectorBatchVowelChecker;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Classifies a batch of 10,000 tokens of 5 to 20 chars per invocation, so the reported time is per token. The
+ * loop benchmarks call {@link VowelChecker#hasVowels(String)} once per token; the batch ones fill a result
+ * bitmap in one call. {@code vowelFree} is the percentage of tokens without a vowel, which have to be scanned to
+ * the end.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, warmups = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BatchVowelCheckerBenchmark {
+    private static final int BATCH_SIZE = 10000;
+
+    @Param({"10", "50", "90"})
+    public int vowelFree;
+
+    private String[] tokens;
+    private long[] results;
+
+    private VowelChecker charArrayChecker;
+    private VowelChecker trimFreeCharArrayChecker;
+    private BatchVowelChecker charArrayBatchChecker;
+    private BatchVowelChecker vectorBatchChecker;
+
+    @Setup
+    public void setup() {
+        charArrayChecker = new CharArrayVowelChecker();
+        trimFreeCharArrayChecker = new TrimFreeCharArrayVowelChecker();
+        charArrayBatchChecker = new CharArrayBatchVowelChecker();
+        vectorBatchChecker = new VectorBatchVowelChecker();
+
+        var random = new Random(42);
+        var letters = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        var consonants = "bcdfghjklmnpqrstvwxyzBCDFGHJKLMNPQRSTVWXYZ";
+        tokens = new String[BATCH_SIZE];
+        for (var i = 0; i < BATCH_SIZE; i++) {
+            var chars = random.nextInt(100) < vowelFree ? consonants : letters;
+            var sb = new StringBuilder();
+            var length = 5 + random.nextInt(16);
+            for (var k = 0; k < length; k++) {
+                sb.append(chars.charAt(random.nextInt(chars.length())));
+            }
+            tokens[i] = sb.toString();
+        }
+        results = new long[BatchVowelChecker.wordsFor(BATCH_SIZE)];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    @ZeroAllocation
+    public void charArray_loop(Blackhole blackhole) {
+        for (var token : tokens) {
+            blackhole.consume(charArrayChecker.hasVowels(token));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    @ZeroAllocation
+    public void trimFreeCharArray_loop(Blackhole blackhole) {
+        for (var token : tokens) {
+            blackhole.consume(trimFreeCharArrayChecker.hasVowels(token));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    @ZeroAllocation
+    public void charArray_batch(Blackhole blackhole) {
+        charArrayBatchChecker.hasVowels(tokens, results);
+        blackhole.consume(results);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    @ZeroAllocation
+    public void vector_batch(Blackhole blackhole) {
+        vectorBatchChecker.hasVowels(tokens, results);
+        blackhole.consume(results);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        var opt = new OptionsBuilder().include(BatchVowelCheckerBenchmark.class.getName());
+        AllocationProfile.run(BatchVowelCheckerBenchmark.class, opt, args);
+    }
+}
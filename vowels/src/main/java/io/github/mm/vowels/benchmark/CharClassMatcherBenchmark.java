@@ -0,0 +1,74 @@
+package io.github.mm.vowels.benchmark;
+
+import io.github.mm.bench.AllocationProfile;
+import io.github.mm.bench.ZeroAllocation;
+import io.github.mm.vowels.charclass.CharClassMatcher;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Scans text that contains no char of the set, once per representation {@link CharClassMatcher} picks: the
+ * ASCII vowels, the vowels plus accented Latin-1 vowels, and the vowels plus Greek and Cyrillic vowels. The
+ * {@code indexOf} benchmark is the naive generic check it replaces.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, warmups = 1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CharClassMatcherBenchmark {
+    private static final int TEXT_LENGTH = 4096;
+
+    @Param({"ascii", "latin1", "bmp"})
+    public String set;
+
+    private String chars;
+    private CharClassMatcher matcher;
+    private String text;
+
+    @Setup
+    public void setup() {
+        chars = switch (set) {
+            case "ascii" -> "aeiouAEIOU";
+            case "latin1" -> "aeiouAEIOU\u00e0\u00e1\u00e8\u00e9\u00ec\u00ed\u00f2\u00f3\u00f9\u00fa";
+            case "bmp" -> "aeiouAEIOU\u03b1\u03b5\u03b9\u03bf\u03c5\u0430\u0435\u0438\u043e\u0443";
+            default -> throw new IllegalArgumentException("Unknown set: " + set);
+        };
+        matcher = CharClassMatcher.of(chars);
+
+        // Latin consonants mixed with Greek and Cyrillic consonants, so the bmp set leaves its bitmap
+        var random = new Random(42);
+        var consonants = "bcdfghjklmnpqrstvwxyz BCDFGHJKLMNPQRSTVWXYZ\u03b2\u03b3\u03b4\u0431\u0432\u0433";
+        var sb = new StringBuilder(TEXT_LENGTH);
+        for (var i = 0; i < TEXT_LENGTH; i++) {
+            sb.append(consonants.charAt(random.nextInt(consonants.length())));
+        }
+        text = sb.toString();
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public boolean charClass() {
+        return matcher.matchesAny(text);
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public boolean indexOf() {
+        for (var i = 0; i < text.length(); i++) {
+            if (chars.indexOf(text.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        var opt = new OptionsBuilder().include(CharClassMatcherBenchmark.class.getSimpleName());
+        AllocationProfile.run(CharClassMatcherBenchmark.class, opt, args);
+    }
+}
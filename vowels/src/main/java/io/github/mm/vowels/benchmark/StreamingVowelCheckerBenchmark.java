@@ -0,0 +1,135 @@
+package io.github.mm.vowels.benchmark;
+
+import io.github.mm.bench.AllocationProfile;
+import io.github.mm.vowels.checker.impl.CharArrayVowelChecker;
+import io.github.mm.vowels.io.StreamingVowelChecker;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Scans a generated 100 MB vowel-free file, so every approach reads all of it. One operation is one megabyte,
+ * which makes the reported ops/s the throughput in MB/s; with {@code --alloc} the allocation is per megabyte
+ * read. The {@code peakHeapMb} secondary metric is the highest heap use during an iteration, summed over the
+ * heap pools' peaks after a GC at the start of the iteration. {@code readString} is the baseline that loads the
+ * whole file into a String before checking it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, warmups = 1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StreamingVowelCheckerBenchmark {
+    private static final int FILE_MB = 100;
+    private static final int MB = 1024 * 1024;
+
+    private Path file;
+    private StreamingVowelChecker streamingChecker;
+    private CharArrayVowelChecker charArrayChecker;
+
+    @Setup
+    public void setup() throws IOException {
+        streamingChecker = new StreamingVowelChecker();
+        charArrayChecker = new CharArrayVowelChecker();
+
+        var random = new Random(42);
+        var consonants = "bcdfghjklmnpqrstvwxyz BCDFGHJKLMNPQRSTVWXYZ.,\n".getBytes(StandardCharsets.US_ASCII);
+        var block = new byte[MB];
+        for (var i = 0; i < block.length; i++) {
+            block[i] = consonants[random.nextInt(consonants.length)];
+        }
+        file = Files.createTempFile("vowels", ".txt");
+        try (var out = Files.newOutputStream(file)) {
+            for (var i = 0; i < FILE_MB; i++) {
+                out.write(block);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PeakHeap {
+        private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+
+        public long peakHeapMb;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            System.gc();
+            HEAP_POOLS.forEach(MemoryPoolMXBean::resetPeakUsage);
+            peakHeapMb = 0;
+        }
+
+        void record() {
+            long used = 0;
+            for (var pool : HEAP_POOLS) {
+                used += pool.getPeakUsage().getUsed();
+            }
+            peakHeapMb = Math.max(peakHeapMb, used / MB);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILE_MB)
+    public boolean channel(PeakHeap heap) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            boolean result = streamingChecker.hasVowels(channel);
+            heap.record();
+            return result;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILE_MB)
+    public boolean inputStream(PeakHeap heap) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            boolean result = streamingChecker.hasVowels(in);
+            heap.record();
+            return result;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILE_MB)
+    public boolean reader(PeakHeap heap) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            boolean result = streamingChecker.hasVowels(reader);
+            heap.record();
+            return result;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILE_MB)
+    public boolean readString(PeakHeap heap) throws IOException {
+        boolean result = charArrayChecker.hasVowels(Files.readString(file, StandardCharsets.UTF_8));
+        heap.record();
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        var opt = new OptionsBuilder().include(StreamingVowelCheckerBenchmark.class.getName());
+        AllocationProfile.run(StreamingVowelCheckerBenchmark.class, opt, args);
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.mm.vowels.benchmark;
+
+import io.github.mm.bench.AllocationProfile;
+import io.github.mm.bench.ZeroAllocation;
+import io.github.mm.vowels.checker.VowelScanner;
+import io.github.mm.vowels.checker.impl.ByteMaskVowelScanner;
+import io.github.mm.vowels.checker.impl.SwarVowelScanner;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Counting, locating and histogramming vowels with the {@link VowelScanner} implementations, compared with the
+ * usual one-liners: {@code replaceAll} and measuring what was removed, a {@code chars()} stream, and a regex
+ * {@code find()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, warmups = 1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VowelScannerBenchmark {
+    private static final String VOWELS = "aeiouAEIOU";
+    private static final Pattern VOWEL_PATTERN = Pattern.compile("[aeiouAEIOU]");
+
+    @Param({"100", "4096"})
+    public int length;
+
+    private String text;
+    private String lateVowelText;
+    private int[] counts;
+
+    private ByteMaskVowelScanner byteMaskScanner;
+    private SwarVowelScanner swarScanner;
+
+    @Setup
+    public void setup() {
+        byteMaskScanner = new ByteMaskVowelScanner();
+        swarScanner = new SwarVowelScanner();
+        counts = new int[VowelScanner.HISTOGRAM_SIZE];
+
+        var random = new Random(42);
+        var letters = "abcdefghijklmnopqrstuvwxyz ABCDEFGHIJKLMNOPQRSTUVWXYZ.";
+        var consonants = "bcdfghjklmnpqrstvwxyz BCDFGHJKLMNPQRSTVWXYZ.";
+        var sb = new StringBuilder(length);
+        var late = new StringBuilder(length);
+        for (var i = 0; i < length; i++) {
+            sb.append(letters.charAt(random.nextInt(letters.length())));
+            late.append(consonants.charAt(random.nextInt(consonants.length())));
+        }
+        late.setCharAt(length - 1, 'o');
+        text = sb.toString();
+        lateVowelText = late.toString();
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public int byteMask_count() {
+        return byteMaskScanner.countVowels(text);
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public int swar_count() {
+        return swarScanner.countVowels(text);
+    }
+
+    @Benchmark
+    public int regexReplace_count() {
+        return text.length() - VOWEL_PATTERN.matcher(text).replaceAll("").length();
+    }
+
+    @Benchmark
+    public long stream_count() {
+        return text.chars().filter(c -> VOWELS.indexOf(c) >= 0).count();
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public int byteMask_indexOfFirst() {
+        return byteMaskScanner.indexOfFirstVowel(lateVowelText);
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public int swar_indexOfFirst() {
+        return swarScanner.indexOfFirstVowel(lateVowelText);
+    }
+
+    @Benchmark
+    public int regex_indexOfFirst() {
+        var matcher = VOWEL_PATTERN.matcher(lateVowelText);
+        return matcher.find() ? matcher.start() : -1;
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void byteMask_histogram(Blackhole blackhole) {
+        byteMaskScanner.vowelHistogram(text, counts);
+        blackhole.consume(counts);
+    }
+
+    @Benchmark
+    @ZeroAllocation
+    public void swar_histogram(Blackhole blackhole) {
+        swarScanner.vowelHistogram(text, counts);
+        blackhole.consume(counts);
+    }
+
+    @Benchmark
+    public void stream_histogram(Blackhole blackhole) {
+        var histogram = counts;
+        Arrays.fill(histogram, 0);
+        text.chars()
+                .map(c -> c | 0x20)
+                .map("aeiou"::indexOf)
+                .filter(slot -> slot >= 0)
+                .forEach(slot -> histogram[slot]++);
+        blackhole.consume(histogram);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        var opt = new OptionsBuilder().include(VowelScannerBenchmark.class.getSimpleName());
+        AllocationProfile.run(VowelScannerBenchmark.class, opt, args);
+    }
+}
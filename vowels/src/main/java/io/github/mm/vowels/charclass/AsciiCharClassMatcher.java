@@ -0,0 +1,35 @@
+package io.github.mm.vowels.charclass;
+
+/** Sets of ASCII chars, one bit per char across two words. */
+final class AsciiCharClassMatcher implements CharClassMatcher {
+    private final long low;
+    private final long high;
+
+    AsciiCharClassMatcher(long low, long high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    @Override
+    public boolean matches(char c) {
+        // A shift by c only uses its low six bits, so c picks the word and the bit in one go
+        return c < 128 && ((c < 64 ? low : high) >>> c & 1) != 0;
+    }
+
+    @Override
+    public boolean matchesAny(String text) {
+        if (text == null) {
+            return false;
+        }
+        long low = this.low;
+        long high = this.high;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 128 && ((c < 64 ? low : high) >>> c & 1) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.mm.vowels.charclass;
+
+import java.util.Arrays;
+
+/**
+ * Tests chars against a fixed set. {@link #of(String)} and {@link #ofRanges(char...)} pick the cheapest
+ * representation for the set: two {@code long} words when every char is ASCII, four when every char is Latin-1,
+ * and otherwise a sorted range table behind a Latin-1 bitmap.
+ */
+public interface CharClassMatcher {
+
+    /** Whether {@code c} is in the set. */
+    boolean matches(char c);
+
+    /**
+     * Whether any char of the string is in the set.
+     *
+     * @param text the string to scan, may be null
+     * @return false for null or empty input
+     */
+    default boolean matchesAny(String text) {
+        if (text == null) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (matches(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compiles the set of chars in {@code chars}. Order and duplicates don't matter.
+     *
+     * @throws IllegalArgumentException if {@code chars} is empty
+     */
+    static CharClassMatcher of(String chars) {
+        if (chars.isEmpty()) {
+            throw new IllegalArgumentException("Char class must not be empty");
+        }
+        char[] sorted = chars.toCharArray();
+        Arrays.sort(sorted);
+        char[] bounds = new char[sorted.length * 2];
+        int count = 0;
+        for (char c : sorted) {
+            if (count > 0 && c <= bounds[count - 1] + 1) {
+                bounds[count - 1] = c;
+            } else {
+                bounds[count++] = c;
+                bounds[count++] = c;
+            }
+        }
+        return compile(Arrays.copyOf(bounds, count));
+    }
+
+    /**
+     * Compiles a set of inclusive ranges given as pairs, e.g. {@code ofRanges('a', 'z', 'A', 'Z')}. Ranges may
+     * overlap and come in any order.
+     *
+     * @throws IllegalArgumentException if no range is given, a bound is missing, or a range is reversed
+     */
+    static CharClassMatcher ofRanges(char... bounds) {
+        if (bounds.length == 0 || bounds.length % 2 != 0) {
+            throw new IllegalArgumentException("Ranges must be given as first/last pairs: " + bounds.length);
+        }
+        // A long keeps the sort unsigned, an int would put ranges from U+8000 up first
+        long[] packed = new long[bounds.length / 2];
+        for (int i = 0; i < packed.length; i++) {
+            char first = bounds[2 * i];
+            char last = bounds[2 * i + 1];
+            if (first > last) {
+                throw new IllegalArgumentException("Reversed range: " + (int) first + "-" + (int) last);
+            }
+            packed[i] = (long) first << 16 | last;
+        }
+        Arrays.sort(packed);
+
+        char[] merged = new char[bounds.length];
+        int count = 0;
+        for (long range : packed) {
+            char first = (char) (range >>> 16);
+            char last = (char) range;
+            if (count > 0 && first <= merged[count - 1] + 1) {
+                merged[count - 1] = (char) Math.max(merged[count - 1], last);
+            } else {
+                merged[count++] = first;
+                merged[count++] = last;
+            }
+        }
+        return compile(Arrays.copyOf(merged, count));
+    }
+
+    // bounds holds sorted, disjoint, non-adjacent first/last pairs
+    private static CharClassMatcher compile(char[] bounds) {
+        char max = bounds[bounds.length - 1];
+        if (max < 128) {
+            long[] bits = Latin1Bits.of(bounds);
+            return new AsciiCharClassMatcher(bits[0], bits[1]);
+        }
+        if (max < 256) {
+            return new Latin1CharClassMatcher(Latin1Bits.of(bounds));
+        }
+        return new RangeCharClassMatcher(bounds);
+    }
+}
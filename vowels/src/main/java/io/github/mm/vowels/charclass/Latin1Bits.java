@@ -0,0 +1,16 @@
+package io.github.mm.vowels.charclass;
+
+final class Latin1Bits {
+    private Latin1Bits() {}
+
+    // One bit per char 0-255 of the given first/last pairs, higher chars are ignored
+    static long[] of(char[] bounds) {
+        long[] bits = new long[4];
+        for (int i = 0; i < bounds.length; i += 2) {
+            for (int c = bounds[i]; c <= Math.min(bounds[i + 1], 255); c++) {
+                bits[c >>> 6] |= 1L << c;
+            }
+        }
+        return bits;
+    }
+}
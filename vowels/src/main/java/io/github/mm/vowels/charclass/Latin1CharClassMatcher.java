@@ -0,0 +1,31 @@
+package io.github.mm.vowels.charclass;
+
+/** Sets of Latin-1 chars as a 256-bit table. */
+final class Latin1CharClassMatcher implements CharClassMatcher {
+    private final long[] bits;
+
+    Latin1CharClassMatcher(long[] bits) {
+        this.bits = bits;
+    }
+
+    @Override
+    public boolean matches(char c) {
+        return c < 256 && (bits[c >>> 6] >>> c & 1) != 0;
+    }
+
+    @Override
+    public boolean matchesAny(String text) {
+        if (text == null) {
+            return false;
+        }
+        long[] bits = this.bits;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 256 && (bits[c >>> 6] >>> c & 1) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.mm.vowels.charclass;
+
+import java.util.Arrays;
+
+/**
+ * Sets reaching beyond Latin-1. Chars below 256 are answered from a bitmap, which covers most text, and the
+ * rest by a binary search over the sorted range starts.
+ */
+final class RangeCharClassMatcher implements CharClassMatcher {
+    private final long[] latin1;
+    private final char[] firsts;
+    private final char[] lasts;
+
+    RangeCharClassMatcher(char[] bounds) {
+        this.latin1 = Latin1Bits.of(bounds);
+        this.firsts = new char[bounds.length / 2];
+        this.lasts = new char[bounds.length / 2];
+        for (int i = 0; i < firsts.length; i++) {
+            firsts[i] = bounds[2 * i];
+            lasts[i] = bounds[2 * i + 1];
+        }
+    }
+
+    @Override
+    public boolean matches(char c) {
+        if (c < 256) {
+            return (latin1[c >>> 6] >>> c & 1) != 0;
+        }
+        int index = Arrays.binarySearch(firsts, c);
+        if (index >= 0) {
+            return true;
+        }
+        // Otherwise c lies after the range starting just before the insertion point, if any
+        int range = -index - 2;
+        return range >= 0 && c <= lasts[range];
+    }
+}
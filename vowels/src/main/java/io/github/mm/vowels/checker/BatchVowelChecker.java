@@ -0,0 +1,42 @@
+package io.github.mm.vowels.checker;
+
+import java.util.List;
+
+/**
+ * A {@link VowelChecker} that classifies many strings per call. Results are written to a bitmap: bit
+ * {@code i & 63} of {@code results[i >>> 6]} is set if and only if string {@code i} contains a vowel. Every word
+ * that covers an input is overwritten, including its bits past the last input, and later words are left
+ * untouched. Null elements have no vowels.
+ */
+public interface BatchVowelChecker extends VowelChecker {
+
+    /** Number of {@code long} words needed for the results of {@code count} strings. */
+    static int wordsFor(int count) {
+        return (count + 63) >>> 6;
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code results} has fewer than {@link #wordsFor(int) wordsFor(count)}
+     *     words
+     */
+    static void checkCapacity(int count, long[] results) {
+        if (results.length < wordsFor(count)) {
+            throw new IllegalArgumentException(
+                    "Results need " + wordsFor(count) + " words for " + count + " strings: " + results.length);
+        }
+    }
+
+    /**
+     * @param texts the strings to check, elements may be null
+     * @param results receives one bit per string, at least {@link #wordsFor(int) wordsFor(texts.length)} long
+     * @throws IllegalArgumentException if {@code results} is too short
+     */
+    void hasVowels(String[] texts, long[] results);
+
+    /**
+     * @param texts the strings to check, elements may be null
+     * @param results receives one bit per string, at least {@link #wordsFor(int) wordsFor(texts.size())} long
+     * @throws IllegalArgumentException if {@code results} is too short
+     */
+    void hasVowels(List<String> texts, long[] results);
+}
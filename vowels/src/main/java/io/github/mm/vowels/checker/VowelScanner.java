@@ -0,0 +1,43 @@
+package io.github.mm.vowels.checker;
+
+/**
+ * A {@link VowelChecker} that also reports how many vowels a string has and where they are, so callers that
+ * need more than a yes/no answer don't have to scan the text a second time. The same rules apply: null input
+ * has no vowels and only the ASCII vowels count, in either case.
+ */
+public interface VowelScanner extends VowelChecker {
+    /** Number of slots {@link #vowelHistogram(String, int[])} fills, one per vowel in the order a, e, i, o, u. */
+    int HISTOGRAM_SIZE = 5;
+
+    /**
+     * Counts the vowels in the input string.
+     *
+     * @param text the input string to scan, may be null
+     * @return the number of vowels, 0 if the string is null or empty
+     */
+    int countVowels(String text);
+
+    /**
+     * Finds the first vowel in the input string.
+     *
+     * @param text the input string to scan, may be null
+     * @return the index of the first vowel, or -1 if the string is null or contains no vowels
+     */
+    int indexOfFirstVowel(String text);
+
+    /**
+     * Counts each vowel separately, ignoring case. Slot 0 receives the number of 'a' and 'A', slot 1 of 'e'
+     * and 'E', and so on up to slot 4 for 'u' and 'U'. Earlier contents of those slots are overwritten and
+     * any further slots are left untouched.
+     *
+     * @param text the input string to scan, may be null
+     * @param counts receives the per-vowel counts, at least {@link #HISTOGRAM_SIZE} long
+     * @throws IllegalArgumentException if {@code counts} is shorter than {@link #HISTOGRAM_SIZE}
+     */
+    void vowelHistogram(String text, int[] counts);
+
+    @Override
+    default boolean hasVowels(String text) {
+        return indexOfFirstVowel(text) >= 0;
+    }
+}
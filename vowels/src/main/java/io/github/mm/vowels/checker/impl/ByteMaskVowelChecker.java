@@ -24,9 +24,12 @@ public class ByteMaskVowelChecker implements VowelChecker {
         if (text == null || text.trim().isEmpty()) {
             return false;
         }
+        return hasVowels(text, 0, text.length());
+    }
 
-        var length = text.length();
-        for (var i = 0; i < length; i++) {
+    // Scans chars from (inclusive) to to (exclusive), shared with ParallelVowelChecker and TrimFreeByteMaskVowelChecker
+    static boolean hasVowels(String text, int from, int to) {
+        for (var i = from; i < to; i++) {
             var c = text.charAt(i);
             if (c >= 'a' && c <= 'z') {
                 if ((LOWERCASE_MASK & (1L << (c - 97))) != 0) {
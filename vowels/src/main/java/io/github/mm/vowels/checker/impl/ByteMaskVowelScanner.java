@@ -0,0 +1,82 @@
+package io.github.mm.vowels.checker.impl;
+
+import io.github.mm.vowels.checker.VowelScanner;
+
+/**
+ * Char-at-a-time scanner built on a single 64-bit mask. Chars 64 to 127 hold both the upper and the lowercase
+ * vowels, so one {@code long} with a bit per char in that block answers the lookup, and a Java shift by
+ * {@code c} already uses only its low six bits.
+ */
+public class ByteMaskVowelScanner implements VowelScanner {
+    private static final long VOWEL_MASK;
+
+    static {
+        long mask = 0;
+        for (var c : "aeiouAEIOU".toCharArray()) {
+            mask |= 1L << c;
+        }
+        VOWEL_MASK = mask;
+    }
+
+    @Override
+    public int countVowels(String text) {
+        if (text == null) {
+            return 0;
+        }
+
+        var count = 0;
+        var length = text.length();
+        for (var i = 0; i < length; i++) {
+            if (isVowel(text.charAt(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int indexOfFirstVowel(String text) {
+        if (text == null) {
+            return -1;
+        }
+
+        var length = text.length();
+        for (var i = 0; i < length; i++) {
+            if (isVowel(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void vowelHistogram(String text, int[] counts) {
+        if (counts.length < HISTOGRAM_SIZE) {
+            throw new IllegalArgumentException("Histogram needs " + HISTOGRAM_SIZE + " slots: " + counts.length);
+        }
+
+        int a = 0, e = 0, i = 0, o = 0, u = 0;
+        var length = text == null ? 0 : text.length();
+        for (var k = 0; k < length; k++) {
+            var c = text.charAt(k);
+            if (isVowel(c)) {
+                switch (c | 0x20) {
+                    case 'a' -> a++;
+                    case 'e' -> e++;
+                    case 'i' -> i++;
+                    case 'o' -> o++;
+                    default -> u++;
+                }
+            }
+        }
+        counts[0] = a;
+        counts[1] = e;
+        counts[2] = i;
+        counts[3] = o;
+        counts[4] = u;
+    }
+
+    private static boolean isVowel(char c) {
+        return c >>> 6 == 1 && (VOWEL_MASK >>> c & 1) != 0;
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.mm.vowels.checker.impl;
+
+import io.github.mm.vowels.checker.BatchVowelChecker;
+import java.util.List;
+
+/**
+ * Runs the {@link CharArrayVowelChecker} lookup over each string with the per-call work hoisted out of the loop:
+ * no interface dispatch, no {@code trim()}, and one result bit OR-ed into a register word per string, stored
+ * once for every 64 strings.
+ */
+public class CharArrayBatchVowelChecker implements BatchVowelChecker {
+    private static final boolean[] VOWELS = new boolean[128];
+
+    static {
+        for (var c : new char[] {'a', 'e', 'i', 'o', 'u', 'A', 'E', 'I', 'O', 'U'}) {
+            VOWELS[c] = true;
+        }
+    }
+
+    @Override
+    public boolean hasVowels(String text) {
+        return text != null && containsVowel(text);
+    }
+
+    @Override
+    public void hasVowels(String[] texts, long[] results) {
+        BatchVowelChecker.checkCapacity(texts.length, results);
+        for (int base = 0; base < texts.length; base += 64) {
+            var end = Math.min(base + 64, texts.length);
+            var bits = 0L;
+            for (var i = base; i < end; i++) {
+                var text = texts[i];
+                if (text != null && containsVowel(text)) {
+                    // The shift only uses the low six bits of i
+                    bits |= 1L << i;
+                }
+            }
+            results[base >>> 6] = bits;
+        }
+    }
+
+    @Override
+    public void hasVowels(List<String> texts, long[] results) {
+        var count = texts.size();
+        BatchVowelChecker.checkCapacity(count, results);
+        for (int base = 0; base < count; base += 64) {
+            var end = Math.min(base + 64, count);
+            var bits = 0L;
+            for (var i = base; i < end; i++) {
+                var text = texts.get(i);
+                if (text != null && containsVowel(text)) {
+                    bits |= 1L << i;
+                }
+            }
+            results[base >>> 6] = bits;
+        }
+    }
+
+    private static boolean containsVowel(String text) {
+        var length = text.length();
+        for (var i = 0; i < length; i++) {
+            var c = text.charAt(i);
+            if (c < 128 && VOWELS[c]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.mm.vowels.checker.impl;
+
+import io.github.mm.vowels.charclass.CharClassMatcher;
+import io.github.mm.vowels.checker.VowelChecker;
+
+public class CharClassVowelChecker implements VowelChecker {
+    private static final CharClassMatcher VOWELS = CharClassMatcher.of("aeiouAEIOU");
+
+    @Override
+    public boolean hasVowels(String text) {
+        return VOWELS.matchesAny(text);
+    }
+}
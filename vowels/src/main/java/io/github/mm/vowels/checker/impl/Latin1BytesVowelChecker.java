@@ -0,0 +1,52 @@
+package io.github.mm.vowels.checker.impl;
+
+import io.github.mm.vowels.checker.VowelChecker;
+
+/**
+ * Runs the {@link ByteMaskVowelChecker} lookup over bytes instead of chars. The string is copied a chunk at a time
+ * into a per-thread byte buffer with {@link String#getBytes(int, int, byte[], int)}, which keeps the low byte of
+ * each char. A char above U+00FF can turn into a vowel that way, so every hit is confirmed against the string
+ * before returning. Chunks start small and double, so text with an early vowel returns before most of it is
+ * copied.
+ */
+public class Latin1BytesVowelChecker implements VowelChecker {
+    private static final long VOWEL_MASK;
+    private static final int FIRST_CHUNK = 64;
+    private static final int MAX_CHUNK = 4096;
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[MAX_CHUNK]);
+
+    static {
+        long mask = 0;
+        for (var c : "aeiouAEIOU".toCharArray()) {
+            mask |= 1L << c;
+        }
+        VOWEL_MASK = mask;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public boolean hasVowels(String text) {
+        if (text == null) {
+            return false;
+        }
+
+        var length = text.length();
+        var buffer = BUFFER.get();
+        var chunk = FIRST_CHUNK;
+        for (var start = 0; start < length; start += chunk, chunk = Math.min(chunk * 2, MAX_CHUNK)) {
+            var end = Math.min(start + chunk, length);
+            text.getBytes(start, end, buffer, 0);
+            for (var i = 0; i < end - start; i++) {
+                var b = buffer[i] & 0xFF;
+                if (isVowel(b) && text.charAt(start + i) == b) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isVowel(int b) {
+        return b >>> 6 == 1 && (VOWEL_MASK >>> b & 1) != 0;
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.mm.vowels.checker.impl;
+
+import io.github.mm.vowels.checker.VowelChecker;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Splits long strings into chunks that are scanned concurrently on a {@link ForkJoinPool} with the
+ * {@link ByteMaskVowelChecker} kernel. Chunk sizes are rounded up to a multiple of 64 chars. That does not align
+ * them to cache lines, but the tasks only read the string, so two of them sharing a line at a boundary costs
+ * nothing. The first task to find a vowel raises a shared flag, and every other task checks it between blocks
+ * and gives up. Strings shorter than the threshold are scanned on the calling thread, where the fork and join
+ * overhead would outweigh the gain.
+ */
+public class ParallelVowelChecker implements VowelChecker {
+    static final int DEFAULT_THRESHOLD = 1 << 18;
+
+    private static final int CHUNK_ALIGNMENT = 64;
+    // Chars a task scans between two looks at the cancellation flag
+    private static final int BLOCK_SIZE = 16 * 1024;
+    // Chunks per worker, so a worker that finishes early can steal from a slower one
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelVowelChecker() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param pool the pool that runs the chunk scans
+     * @param threshold minimum string length scanned in parallel
+     */
+    public ParallelVowelChecker(ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public boolean hasVowels(String text) {
+        if (text == null) {
+            return false;
+        }
+
+        var length = text.length();
+        if (length < threshold) {
+            return ByteMaskVowelChecker.hasVowels(text, 0, length);
+        }
+
+        var chunks = pool.getParallelism() * CHUNKS_PER_WORKER;
+        var chunkSize = align((length + chunks - 1) / chunks);
+        var found = new AtomicBoolean();
+        pool.invoke(new ScanTask(text, 0, length, chunkSize, found));
+        return found.get();
+    }
+
+    private static int align(int size) {
+        return (size + CHUNK_ALIGNMENT - 1) & -CHUNK_ALIGNMENT;
+    }
+
+    private static final class ScanTask extends RecursiveAction {
+        private final String text;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final AtomicBoolean found;
+
+        ScanTask(String text, int from, int to, int chunkSize, AtomicBoolean found) {
+            this.text = text;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            if (found.get()) {
+                return;
+            }
+            if (to - from > chunkSize) {
+                var mid = from + align((to - from) / 2);
+                invokeAll(
+                        new ScanTask(text, from, mid, chunkSize, found), new ScanTask(text, mid, to, chunkSize, found));
+                return;
+            }
+
+            for (var start = from; start < to; start += BLOCK_SIZE) {
+                if (found.get()) {
+                    return;
+                }
+                if (ByteMaskVowelChecker.hasVowels(text, start, Math.min(start + BLOCK_SIZE, to))) {
+                    found.set(true);
+                    return;
+                }
+            }
+        }
+    }
+}
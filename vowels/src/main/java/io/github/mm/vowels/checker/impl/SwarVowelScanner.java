@@ -0,0 +1,123 @@
+package io.github.mm.vowels.checker.impl;
+
+import io.github.mm.vowels.checker.VowelScanner;
+
+/**
+ * Packs four chars into the 16-bit lanes of a {@code long} and tests them together (SIMD within a register).
+ * Each lane is case-folded by OR-ing in 0x20 and compared against the five vowels with a carry-free zero-lane
+ * test, which leaves the top bit of every matching lane set. A popcount of that word is the number of vowels in
+ * the four chars and its trailing zeros locate the first one.
+ */
+public class SwarVowelScanner implements VowelScanner {
+    private static final long LANES = 0x0001_0001_0001_0001L;
+    private static final long HIGH_BITS = 0x8000 * LANES;
+    private static final long LOW_BITS = 0x7FFF * LANES;
+    private static final long CASE_BITS = 0x0020 * LANES;
+
+    private static final long A = 'a' * LANES;
+    private static final long E = 'e' * LANES;
+    private static final long I = 'i' * LANES;
+    private static final long O = 'o' * LANES;
+    private static final long U = 'u' * LANES;
+
+    @Override
+    public int countVowels(String text) {
+        if (text == null) {
+            return 0;
+        }
+
+        var count = 0;
+        var length = text.length();
+        var i = 0;
+        for (; i + 4 <= length; i += 4) {
+            var word = fold(text, i);
+            count += Long.bitCount(
+                    matches(word, A) | matches(word, E) | matches(word, I) | matches(word, O) | matches(word, U));
+        }
+        for (; i < length; i++) {
+            if (vowelSlot(text.charAt(i)) >= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int indexOfFirstVowel(String text) {
+        if (text == null) {
+            return -1;
+        }
+
+        var length = text.length();
+        var i = 0;
+        for (; i + 4 <= length; i += 4) {
+            var word = fold(text, i);
+            var hits = matches(word, A) | matches(word, E) | matches(word, I) | matches(word, O) | matches(word, U);
+            if (hits != 0) {
+                return i + (Long.numberOfTrailingZeros(hits) >>> 4);
+            }
+        }
+        for (; i < length; i++) {
+            if (vowelSlot(text.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void vowelHistogram(String text, int[] counts) {
+        if (counts.length < HISTOGRAM_SIZE) {
+            throw new IllegalArgumentException("Histogram needs " + HISTOGRAM_SIZE + " slots: " + counts.length);
+        }
+
+        int a = 0, e = 0, i = 0, o = 0, u = 0;
+        var length = text == null ? 0 : text.length();
+        var k = 0;
+        for (; k + 4 <= length; k += 4) {
+            var word = fold(text, k);
+            a += Long.bitCount(matches(word, A));
+            e += Long.bitCount(matches(word, E));
+            i += Long.bitCount(matches(word, I));
+            o += Long.bitCount(matches(word, O));
+            u += Long.bitCount(matches(word, U));
+        }
+        counts[0] = a;
+        counts[1] = e;
+        counts[2] = i;
+        counts[3] = o;
+        counts[4] = u;
+        for (; k < length; k++) {
+            var slot = vowelSlot(text.charAt(k));
+            if (slot >= 0) {
+                counts[slot]++;
+            }
+        }
+    }
+
+    // Chars i to i + 3 in lanes 0 to 3, each with the lowercase bit set
+    private static long fold(String text, int i) {
+        return (text.charAt(i)
+                        | (long) text.charAt(i + 1) << 16
+                        | (long) text.charAt(i + 2) << 32
+                        | (long) text.charAt(i + 3) << 48)
+                | CASE_BITS;
+    }
+
+    // Top bit set in every lane of word equal to the same lane of vowel
+    private static long matches(long word, long vowel) {
+        var diff = word ^ vowel;
+        return ~(((diff & LOW_BITS) + LOW_BITS) | diff) & HIGH_BITS;
+    }
+
+    private static int vowelSlot(char c) {
+        return switch (c | 0x20) {
+            case 'a' -> 0;
+            case 'e' -> 1;
+            case 'i' -> 2;
+            case 'o' -> 3;
+            case 'u' -> 4;
+            default -> -1;
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.mm.vowels.checker.impl;
+
+import io.github.mm.vowels.checker.VowelChecker;
+
+/**
+ * {@link ByteMaskVowelChecker} with blank input left to the main loop instead of a {@code trim()} pass. Whitespace
+ * is never a vowel, so scanning the untrimmed bounds gives the same answer.
+ */
+public class TrimFreeByteMaskVowelChecker implements VowelChecker {
+    @Override
+    public boolean hasVowels(String text) {
+        if (text == null) {
+            return false;
+        }
+        return ByteMaskVowelChecker.hasVowels(text, 0, text.length());
+    }
+}
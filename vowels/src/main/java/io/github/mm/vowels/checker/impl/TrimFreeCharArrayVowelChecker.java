@@ -0,0 +1,34 @@
+package io.github.mm.vowels.checker.impl;
+
+import io.github.mm.vowels.checker.VowelChecker;
+
+/**
+ * {@link CharArrayVowelChecker} without the {@code text.trim().isEmpty()} guard. Whitespace is never a vowel,
+ * so a blank string already falls through the scan and returns false. The guard only added a second pass over
+ * leading and trailing whitespace, plus a substring allocation whenever there was any.
+ */
+public class TrimFreeCharArrayVowelChecker implements VowelChecker {
+    private static final boolean[] VOWELS = new boolean[128];
+
+    static {
+        for (var c : new char[] {'a', 'e', 'i', 'o', 'u', 'A', 'E', 'I', 'O', 'U'}) {
+            VOWELS[c] = true;
+        }
+    }
+
+    @Override
+    public boolean hasVowels(String text) {
+        if (text == null) {
+            return false;
+        }
+
+        var length = text.length();
+        for (var i = 0; i < length; i++) {
+            var c = text.charAt(i);
+            if (c < 128 && VOWELS[c]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.mm.vowels.checker.impl;
+
+import io.github.mm.vowels.checker.BatchVowelChecker;
+import java.util.Arrays;
+import java.util.List;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Packs each group of 64 strings back to back into one char buffer and runs a single vector pass over the whole
+ * group, the same case-folding compare as {@link VectorVowelChecker}. The hit mask of every vector goes into a
+ * bitmap with one bit per packed char, and a string has a vowel if any bit within its span is set. Short tokens
+ * fill the vector lanes this way, where scanning them one by one would mostly run the scalar tail. The packing
+ * buffer and the bitmap are kept per thread and only grow, so a batch allocates nothing once they fit.
+ */
+public class VectorBatchVowelChecker implements BatchVowelChecker {
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final int GROUP_SIZE = 64;
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final VectorVowelChecker singleChecker = new VectorVowelChecker();
+
+    private static final class Scratch {
+        final int[] starts = new int[GROUP_SIZE + 1];
+        char[] chars = new char[0];
+        long[] hits = new long[0];
+    }
+
+    @Override
+    public boolean hasVowels(String text) {
+        return singleChecker.hasVowels(text);
+    }
+
+    @Override
+    public void hasVowels(String[] texts, long[] results) {
+        hasVowels(texts, null, texts.length, results);
+    }
+
+    @Override
+    public void hasVowels(List<String> texts, long[] results) {
+        hasVowels(null, texts, texts.size(), results);
+    }
+
+    // Reads from the array if there is one, otherwise from the list, so neither has to be wrapped
+    private static void hasVowels(String[] array, List<String> list, int count, long[] results) {
+        BatchVowelChecker.checkCapacity(count, results);
+
+        var scratch = SCRATCH.get();
+        var starts = scratch.starts;
+        for (int base = 0; base < count; base += GROUP_SIZE) {
+            var end = Math.min(base + GROUP_SIZE, count);
+
+            var total = 0;
+            for (var i = base; i < end; i++) {
+                var text = array != null ? array[i] : list.get(i);
+                starts[i - base] = total;
+                total += text == null ? 0 : text.length();
+            }
+            starts[end - base] = total;
+
+            // Round up to whole vectors; the padding stays zero, which is not a vowel
+            var padded = (total + SPECIES.length() - 1) / SPECIES.length() * SPECIES.length();
+            if (scratch.chars.length < padded) {
+                scratch.chars = new char[Math.max(padded, scratch.chars.length * 2)];
+                scratch.hits = new long[(scratch.chars.length + 63) >>> 6];
+            } else {
+                Arrays.fill(scratch.chars, total, padded, '\0');
+            }
+            var chars = scratch.chars;
+            var hits = scratch.hits;
+            for (var i = base; i < end; i++) {
+                var text = array != null ? array[i] : list.get(i);
+                if (text != null) {
+                    text.getChars(0, text.length(), chars, starts[i - base]);
+                }
+            }
+
+            markVowels(chars, padded, hits);
+            var bits = 0L;
+            for (var i = base; i < end; i++) {
+                if (anyBitSet(hits, starts[i - base], starts[i - base + 1])) {
+                    bits |= 1L << i;
+                }
+            }
+            results[base >>> 6] = bits;
+        }
+    }
+
+    // Sets bit k of hits when chars[k] is a vowel, for k below length, a multiple of the vector length
+    private static void markVowels(char[] chars, int length, long[] hits) {
+        Arrays.fill(hits, 0, (length + 63) >>> 6, 0L);
+        // Lane counts divide 64, so a vector's mask never straddles two words
+        for (var i = 0; i < length; i += SPECIES.length()) {
+            var v = ShortVector.fromCharArray(SPECIES, chars, i).or((short) 0x20);
+            var mask = v.eq((short) 'a')
+                    .or(v.eq((short) 'e'))
+                    .or(v.eq((short) 'i'))
+                    .or(v.eq((short) 'o'))
+                    .or(v.eq((short) 'u'))
+                    .toLong();
+            hits[i >>> 6] |= mask << i;
+        }
+    }
+
+    // Whether any bit from (inclusive) to to (exclusive) is set
+    private static boolean anyBitSet(long[] bits, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        var first = from >>> 6;
+        var last = (to - 1) >>> 6;
+        var firstMask = -1L << from;
+        var lastMask = -1L >>> -to;
+        if (first == last) {
+            return (bits[first] & firstMask & lastMask) != 0;
+        }
+        if ((bits[first] & firstMask) != 0) {
+            return true;
+        }
+        for (var w = first + 1; w < last; w++) {
+            if (bits[w] != 0) {
+                return true;
+            }
+        }
+        return (bits[last] & lastMask) != 0;
+    }
+}
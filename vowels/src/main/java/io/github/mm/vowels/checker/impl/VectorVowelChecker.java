@@ -0,0 +1,76 @@
+package io.github.mm.vowels.checker.impl;
+
+import io.github.mm.vowels.checker.VowelChecker;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Tests a whole vector of chars per step. The string is copied in chunks into a per-thread buffer and each
+ * vector is case-folded by OR-ing in 0x20, then compared against the five lowercase vowels. Lanes stay 16 bits
+ * wide so a char such as U+0161 cannot fold onto 'a' the way its low byte would. Chunks start small and double,
+ * so text with an early vowel returns before most of it is copied.
+ */
+public class VectorVowelChecker implements VowelChecker {
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final int FIRST_CHUNK = 64;
+    private static final int MAX_CHUNK = 4096;
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_CHUNK]);
+
+    @Override
+    public boolean hasVowels(String text) {
+        // Blank text has no vowels either, so there is no need to trim
+        if (text == null) {
+            return false;
+        }
+
+        int length = text.length();
+        if (length < SPECIES.length()) {
+            for (int i = 0; i < length; i++) {
+                if (isVowel(text.charAt(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        char[] buffer = BUFFER.get();
+        int chunk = FIRST_CHUNK;
+        for (int start = 0; start < length; start += chunk, chunk = Math.min(chunk * 2, MAX_CHUNK)) {
+            int end = Math.min(start + chunk, length);
+            text.getChars(start, end, buffer, 0);
+            if (hasVowels(buffer, end - start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasVowels(char[] chars, int count) {
+        int i = 0;
+        int bound = SPECIES.loopBound(count);
+        for (; i < bound; i += SPECIES.length()) {
+            ShortVector v = ShortVector.fromCharArray(SPECIES, chars, i).or((short) 0x20);
+            if (v.eq((short) 'a')
+                    .or(v.eq((short) 'e'))
+                    .or(v.eq((short) 'i'))
+                    .or(v.eq((short) 'o'))
+                    .or(v.eq((short) 'u'))
+                    .anyTrue()) {
+                return true;
+            }
+        }
+        for (; i < count; i++) {
+            if (isVowel(chars[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isVowel(char c) {
+        return switch (c | 0x20) {
+            case 'a', 'e', 'i', 'o', 'u' -> true;
+            default -> false;
+        };
+    }
+}
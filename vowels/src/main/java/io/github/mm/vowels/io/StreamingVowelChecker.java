@@ -0,0 +1,136 @@
+package io.github.mm.vowels.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Checks text for vowels while reading it, so files and sockets don't have to be loaded into a String first.
+ * Reading stops at the buffer that contains the first vowel, and the source is left open.
+ *
+ * <p>Byte input must be UTF-8, Latin-1 or ASCII. In all three the ASCII vowels are single bytes below 0x80, and
+ * every byte of any other char is either not a vowel or 0x80 and above, so the bytes are scanned as-is,
+ * eight at a time, without decoding. Text in other encodings goes through {@link #hasVowels(Reader)}.
+ *
+ * <p>The buffers are allocated once and reused, so an instance must not be shared between threads.
+ */
+public final class StreamingVowelChecker {
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long LANES = 0x0101_0101_0101_0101L;
+    private static final long HIGH_BITS = 0x80 * LANES;
+    private static final long LOW_BITS = 0x7F * LANES;
+    private static final long CASE_BITS = 0x20 * LANES;
+    private static final long VOWEL_MASK;
+
+    static {
+        long mask = 0;
+        for (var c : "aeiouAEIOU".toCharArray()) {
+            mask |= 1L << c;
+        }
+        VOWEL_MASK = mask;
+    }
+
+    private final ByteBuffer directBuffer;
+    private final byte[] bytes;
+    private final char[] chars;
+
+    public StreamingVowelChecker() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /** @param bufferSize bytes or chars read per call on the source, at least 8 */
+    public StreamingVowelChecker(int bufferSize) {
+        if (bufferSize < Long.BYTES) {
+            throw new IllegalArgumentException("Buffer size must be at least " + Long.BYTES + ": " + bufferSize);
+        }
+        this.directBuffer = ByteBuffer.allocateDirect(bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+        this.bytes = new byte[bufferSize];
+        this.chars = new char[bufferSize];
+    }
+
+    /**
+     * Reads UTF-8, Latin-1 or ASCII bytes from the channel into a direct buffer until a vowel shows up or the
+     * channel is exhausted.
+     */
+    public boolean hasVowels(ReadableByteChannel channel) throws IOException {
+        var buffer = directBuffer;
+        while (true) {
+            buffer.clear();
+            if (channel.read(buffer) < 0) {
+                return false;
+            }
+            var limit = buffer.position();
+            var i = 0;
+            for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+                if (vowelLanes(buffer.getLong(i)) != 0) {
+                    return true;
+                }
+            }
+            for (; i < limit; i++) {
+                if (isVowel((char) (buffer.get(i) & 0xFF))) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /** Reads UTF-8, Latin-1 or ASCII bytes from the stream until a vowel shows up or the stream ends. */
+    public boolean hasVowels(InputStream in) throws IOException {
+        var buffer = bytes;
+        int count;
+        while ((count = in.read(buffer)) >= 0) {
+            var i = 0;
+            for (; i + Long.BYTES <= count; i += Long.BYTES) {
+                if (vowelLanes((long) LONGS.get(buffer, i)) != 0) {
+                    return true;
+                }
+            }
+            for (; i < count; i++) {
+                if (isVowel((char) (buffer[i] & 0xFF))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Reads chars until a vowel shows up or the reader is exhausted. */
+    public boolean hasVowels(Reader reader) throws IOException {
+        var buffer = chars;
+        int count;
+        while ((count = reader.read(buffer)) >= 0) {
+            for (var i = 0; i < count; i++) {
+                if (isVowel(buffer[i])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Top bit set in every byte of word that is an ASCII vowel in either case
+    private static long vowelLanes(long word) {
+        var folded = word | CASE_BITS;
+        return matches(folded, 'a')
+                | matches(folded, 'e')
+                | matches(folded, 'i')
+                | matches(folded, 'o')
+                | matches(folded, 'u');
+    }
+
+    private static long matches(long word, char vowel) {
+        var diff = word ^ (vowel * LANES);
+        return ~(((diff & LOW_BITS) + LOW_BITS) | diff) & HIGH_BITS;
+    }
+
+    private static boolean isVowel(char c) {
+        return c >>> 6 == 1 && (VOWEL_MASK >>> c & 1) != 0;
+    }
+}
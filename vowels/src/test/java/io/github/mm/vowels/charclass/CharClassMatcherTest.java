@@ -0,0 +1,84 @@
+package io.github.mm.vowels.charclass;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CharClassMatcherTest {
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "aeiouAEIOU",
+                "bcdfghjklmnpqrstvwxyzBCDFGHJKLMNPQRSTVWXYZ",
+                "\u0000?@\u007f",
+                "aeiou\u00e0\u00e1\u00e2\u00e8\u00e9\u00ff",
+                "aeiou\u03b1\u03b5\u03b7\u03b9\u03bf\u03c5\u03c9\u0430\u0435\uffff",
+                "zzzaaa"
+            })
+    void shouldAgreeWithIndexOf(String chars) {
+        var matcher = CharClassMatcher.of(chars);
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            assertEquals(chars.indexOf(c) >= 0, matcher.matches((char) c), chars + " on " + c);
+        }
+    }
+
+    @Test
+    void shouldPickRepresentationByLargestChar() {
+        assertInstanceOf(AsciiCharClassMatcher.class, CharClassMatcher.of("aeiouAEIOU"));
+        assertInstanceOf(Latin1CharClassMatcher.class, CharClassMatcher.of("aeiou\u00e9"));
+        assertInstanceOf(RangeCharClassMatcher.class, CharClassMatcher.of("aeiou\u0430"));
+        assertInstanceOf(AsciiCharClassMatcher.class, CharClassMatcher.ofRanges('0', '9', 'a', 'f'));
+    }
+
+    @Test
+    void shouldMergeOverlappingRanges() {
+        var matcher = CharClassMatcher.ofRanges('\u0400', '\u04ff', 'a', 'z', '\u0450', '\u0500', 'A', 'Z');
+        var random = new Random(42);
+        for (int n = 0; n < 100_000; n++) {
+            char c = (char) random.nextInt(0x600);
+            boolean expected = c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '\u0400' && c <= '\u0500';
+            assertEquals(expected, matcher.matches(c), String.valueOf((int) c));
+        }
+    }
+
+    @Test
+    void shouldKeepRangesAboveU8000Apart() {
+        var high = CharClassMatcher.ofRanges('\u9000', '\u9010', 'a', 'z');
+        var highest = CharClassMatcher.ofRanges('a', 'z', '\uff00', '\uffff', '\u8000', '\u8000');
+        var random = new Random(42);
+        for (int n = 0; n < 100_000; n++) {
+            char c = (char) random.nextInt(0x10000);
+            boolean letter = c >= 'a' && c <= 'z';
+            assertEquals(letter || c >= '\u9000' && c <= '\u9010', high.matches(c), String.valueOf((int) c));
+            assertEquals(letter || c >= '\uff00' || c == '\u8000', highest.matches(c), String.valueOf((int) c));
+        }
+        assertTrue(high.matches('a'));
+        assertTrue(highest.matches('a'));
+        assertTrue(highest.matches('\uffff'));
+        assertFalse(highest.matches('\u8001'));
+    }
+
+    @Test
+    void shouldScanStrings() {
+        var matcher = CharClassMatcher.of(".,;:!?");
+
+        assertTrue(matcher.matchesAny("Hello, world"));
+        assertFalse(matcher.matchesAny("Hello world"));
+        assertFalse(matcher.matchesAny(""));
+        assertFalse(matcher.matchesAny(null));
+        assertTrue(CharClassMatcher.of("\u00e9\u0430").matchesAny("caf\u00e9"));
+        assertTrue(CharClassMatcher.of("\u00e9\u0430").matchesAny("\u043c\u0430\u043c\u0430"));
+    }
+
+    @Test
+    void shouldRejectInvalidSets() {
+        assertThrows(IllegalArgumentException.class, () -> CharClassMatcher.of(""));
+        assertThrows(IllegalArgumentException.class, () -> CharClassMatcher.ofRanges());
+        assertThrows(IllegalArgumentException.class, () -> CharClassMatcher.ofRanges('a'));
+        assertThrows(IllegalArgumentException.class, () -> CharClassMatcher.ofRanges('z', 'a'));
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.mm.vowels.checker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.mm.vowels.checker.impl.CharArrayBatchVowelChecker;
+import io.github.mm.vowels.checker.impl.CharArrayVowelChecker;
+import io.github.mm.vowels.checker.impl.VectorBatchVowelChecker;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class BatchVowelCheckerTest {
+    private static final String ALPHABET = "bcdfghjklmnpqrstvwxyz aeiouAEIOU\u0161\u0141\u00e1";
+
+    private static final List<BatchVowelChecker> checkers =
+            List.of(new CharArrayBatchVowelChecker(), new VectorBatchVowelChecker());
+
+    static Stream<Arguments> batchCheckerProvider() {
+        return checkers.stream().map(Arguments::of);
+    }
+
+    @ParameterizedTest
+    @MethodSource("batchCheckerProvider")
+    void shouldAgreeWithSingleStringChecks(BatchVowelChecker checker) {
+        var reference = new CharArrayVowelChecker();
+        var random = new Random(42);
+        for (var count : new int[] {0, 1, 63, 64, 65, 200, 1000}) {
+            var texts = new String[count];
+            for (var i = 0; i < count; i++) {
+                texts[i] = random.nextInt(20) == 0 ? null : randomToken(random);
+            }
+            var expected = new long[BatchVowelChecker.wordsFor(count)];
+            for (var i = 0; i < count; i++) {
+                if (reference.hasVowels(texts[i])) {
+                    expected[i >>> 6] |= 1L << i;
+                }
+            }
+
+            var fromArray = new long[expected.length];
+            var fromList = new long[expected.length];
+            checker.hasVowels(texts, fromArray);
+            checker.hasVowels(Arrays.asList(texts), fromList);
+
+            assertArrayEquals(expected, fromArray, "array of " + count);
+            assertArrayEquals(expected, fromList, "list of " + count);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("batchCheckerProvider")
+    void shouldOverwriteCoveredWordsOnly(BatchVowelChecker checker) {
+        var results = new long[] {-1L, -1L, 42L};
+        var texts = new String[70];
+        Arrays.fill(texts, "xyz");
+        texts[3] = "vowel";
+        texts[69] = "-O-";
+
+        checker.hasVowels(texts, results);
+
+        assertArrayEquals(new long[] {1L << 3, 1L << 5, 42L}, results);
+    }
+
+    @ParameterizedTest
+    @MethodSource("batchCheckerProvider")
+    void shouldRejectShortResults(BatchVowelChecker checker) {
+        var texts = new String[65];
+        assertThrows(IllegalArgumentException.class, () -> checker.hasVowels(texts, new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> checker.hasVowels(List.of("a", "b"), new long[0]));
+    }
+
+    private static String randomToken(Random random) {
+        var sb = new StringBuilder();
+        var length = random.nextInt(25);
+        for (var i = 0; i < length; i++) {
+            sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import io.github.mm.vowels.checker.impl.*;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -34,7 +35,20 @@ class VowelCheckerTest {
             new RecursionVowelChecker(),
             new RegexReplaceVowelChecker(),
             new ContainsVowelChecker(),
-            new StringReplaceVowelChecker());
+            new StringReplaceVowelChecker(),
+            new VectorVowelChecker(),
+            new TrimFreeCharArrayVowelChecker(),
+            new TrimFreeByteMaskVowelChecker(),
+            new TrimFreeBitSetVowelChecker(),
+            new ByteMaskVowelScanner(),
+            new SwarVowelScanner(),
+            new CharClassVowelChecker(),
+            new ParallelVowelChecker(),
+            // Low threshold so the short test strings take the parallel path too
+            new ParallelVowelChecker(ForkJoinPool.commonPool(), 64),
+            new CharArrayBatchVowelChecker(),
+            new VectorBatchVowelChecker(),
+            new Latin1BytesVowelChecker());
 
     @BeforeAll
     static void setUp() {
@@ -99,6 +113,14 @@ class VowelCheckerTest {
         assertFalse(checker.hasVowels(""));
     }
 
+    @ParameterizedTest
+    @MethodSource("vowelCheckerProvider")
+    void shouldHandleWhitespace(VowelChecker checker) {
+        assertFalse(checker.hasVowels(" \t\n\r".repeat(50)));
+        assertTrue(checker.hasVowels(" ".repeat(100) + "o"));
+        assertTrue(checker.hasVowels("\tI\t"));
+    }
+
     @ParameterizedTest
     @MethodSource("vowelCheckerProvider")
     void shouldHandleSingleVowels(VowelChecker checker) {
@@ -115,6 +137,33 @@ class VowelCheckerTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("vowelCheckerProvider")
+    void shouldFindVowelAtAnyPosition(VowelChecker checker) {
+        // Covers vector lane, tail and chunk boundaries
+        var consonants = "x".repeat(300);
+        for (var position : new int[] {0, 7, 15, 16, 31, 32, 63, 64, 65, 191, 192, 250, 299}) {
+            var text = consonants.substring(0, position) + 'U' + consonants.substring(position + 1);
+            assertTrue(
+                    checker.hasVowels(text),
+                    String.format(
+                            "%s missed the vowel at position %d",
+                            checker.getClass().getSimpleName(), position));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("vowelCheckerProvider")
+    void shouldIgnoreNonAsciiLetters(VowelChecker checker) {
+        // Low bytes and case-folded forms of these collide with ASCII vowels
+        var text = "\u0161\u0141\u0165\u00e1\u00c9\u0100\u2061\uff41".repeat(20);
+        assertFalse(
+                checker.hasVowels(text),
+                String.format(
+                        "%s treated non-ASCII letters as vowels",
+                        checker.getClass().getSimpleName()));
+    }
+
     @ParameterizedTest
     @MethodSource("vowelCheckerProvider")
     void shouldHandleNullInput(VowelChecker checker) {
@@ -0,0 +1,77 @@
+package io.github.mm.vowels.checker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.mm.vowels.checker.impl.ByteMaskVowelScanner;
+import io.github.mm.vowels.checker.impl.SwarVowelScanner;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class VowelScannerTest {
+    // ASCII letters plus chars whose low byte or case-folded form equals a vowel
+    private static final String ALPHABET = "aeiouAEIOUbxyzBXYZ .\t\u0161\u0141\u00e1\u00c9\u2061\uff41";
+
+    private static final List<VowelScanner> scanners = List.of(new ByteMaskVowelScanner(), new SwarVowelScanner());
+
+    static Stream<Arguments> vowelScannerProvider() {
+        return scanners.stream().map(Arguments::of);
+    }
+
+    @ParameterizedTest
+    @MethodSource("vowelScannerProvider")
+    void shouldAgreeWithCharByCharScan(VowelScanner scanner) {
+        var random = new Random(42);
+        var counts = new int[VowelScanner.HISTOGRAM_SIZE];
+        for (int n = 0; n < 5000; n++) {
+            var text = randomText(random, random.nextInt(40));
+            var expected = new int[VowelScanner.HISTOGRAM_SIZE];
+            var expectedIndex = -1;
+            for (int i = 0; i < text.length(); i++) {
+                var slot = "aeiou".indexOf(text.charAt(i) | 0x20);
+                if (slot >= 0 && text.charAt(i) < 128) {
+                    expected[slot]++;
+                    if (expectedIndex < 0) {
+                        expectedIndex = i;
+                    }
+                }
+            }
+
+            scanner.vowelHistogram(text, counts);
+            assertArrayEquals(expected, counts, text);
+            assertEquals(Arrays.stream(expected).sum(), scanner.countVowels(text), text);
+            assertEquals(expectedIndex, scanner.indexOfFirstVowel(text), text);
+            assertEquals(expectedIndex >= 0, scanner.hasVowels(text), text);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("vowelScannerProvider")
+    void shouldHandleNullInput(VowelScanner scanner) {
+        var counts = new int[] {7, 7, 7, 7, 7, 7};
+        scanner.vowelHistogram(null, counts);
+
+        assertArrayEquals(new int[] {0, 0, 0, 0, 0, 7}, counts);
+        assertEquals(0, scanner.countVowels(null));
+        assertEquals(-1, scanner.indexOfFirstVowel(null));
+        assertFalse(scanner.hasVowels(null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("vowelScannerProvider")
+    void shouldRejectShortHistogram(VowelScanner scanner) {
+        assertThrows(IllegalArgumentException.class, () -> scanner.vowelHistogram("aeiou", new int[4]));
+    }
+
+    private static String randomText(Random random, int length) {
+        var sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return sb.toString();
+    }
+}
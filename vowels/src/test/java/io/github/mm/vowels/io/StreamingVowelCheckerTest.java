@@ -0,0 +1,84 @@
+package io.github.mm.vowels.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class StreamingVowelCheckerTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {8, 13, 64, 65536})
+    void shouldFindVowelAcrossBufferBoundaries(int bufferSize) throws IOException {
+        var checker = new StreamingVowelChecker(bufferSize);
+        var consonants = "x".repeat(300);
+        for (var position : new int[] {0, 7, 8, 12, 13, 63, 64, 100, 299}) {
+            var text = consonants.substring(0, position) + 'E' + consonants.substring(position + 1);
+            assertTrue(checker.hasVowels(new StringReader(text)), "reader at " + position);
+            assertTrue(checker.hasVowels(stream(text, StandardCharsets.US_ASCII)), "stream at " + position);
+            assertTrue(checker.hasVowels(Channels.newChannel(stream(text, StandardCharsets.US_ASCII))));
+        }
+        assertFalse(checker.hasVowels(new StringReader(consonants)));
+        assertFalse(checker.hasVowels(stream(consonants, StandardCharsets.US_ASCII)));
+        assertFalse(checker.hasVowels(Channels.newChannel(stream(consonants, StandardCharsets.US_ASCII))));
+    }
+
+    @Test
+    void shouldIgnoreEncodedNonAsciiVowels() throws IOException {
+        var checker = new StreamingVowelChecker(16);
+        // Accented vowels, and chars whose UTF-8 bytes OR 0x20 come close to the vowels
+        var utf8 = "\u00e1\u00c9\u00ed\u00d3\u00fa \u00c1\u00e9 \u0161\u0141 xyz".repeat(10);
+        var latin1 = "\u00e1\u00c9\u00ed\u00d3\u00fa \u00c1\u00e9 \u00ff xyz".repeat(10);
+
+        assertFalse(checker.hasVowels(stream(utf8, StandardCharsets.UTF_8)));
+        assertFalse(checker.hasVowels(Channels.newChannel(stream(utf8, StandardCharsets.UTF_8))));
+        assertFalse(checker.hasVowels(stream(latin1, StandardCharsets.ISO_8859_1)));
+        assertFalse(checker.hasVowels(Channels.newChannel(stream(latin1, StandardCharsets.ISO_8859_1))));
+        assertFalse(checker.hasVowels(new StringReader(utf8)));
+        assertTrue(checker.hasVowels(stream(utf8 + "o", StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void shouldStopReadingAtFirstVowel() throws IOException {
+        var checker = new StreamingVowelChecker(1024);
+        var reads = new AtomicInteger();
+        var source = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                reads.incrementAndGet();
+                for (var i = 0; i < length; i++) {
+                    buffer[offset + i] = (byte) (position++ == 1500 ? 'a' : 'z');
+                }
+                return length;
+            }
+        };
+
+        assertTrue(checker.hasVowels(source));
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void shouldRejectTinyBuffer() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamingVowelChecker(7));
+    }
+
+    private static InputStream stream(String text, Charset charset) {
+        return new ByteArrayInputStream(text.getBytes(charset));
+    }
+}